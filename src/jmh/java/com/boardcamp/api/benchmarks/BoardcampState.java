@@ -0,0 +1,107 @@
+package com.boardcamp.api.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.boardcamp.api.ApiApplication;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.services.CustomerService;
+import com.boardcamp.api.services.GameService;
+import com.boardcamp.api.services.RentalService;
+
+/**
+ * Boots the application against the benchmark database and seeds it once per
+ * trial with {@code games} games, {@code customers} customers and
+ * {@code rentals} rentals, one in ten of them still open. Request handling
+ * runs on virtual threads when {@code virtualThreads} is set and the JVM
+ * supports them.
+ */
+@State(Scope.Benchmark)
+public class BoardcampState {
+    @Param("10000")
+    public int games;
+
+    @Param("10000")
+    public int customers;
+
+    @Param("1000000")
+    public int rentals;
+
+    @Param("false")
+    public boolean virtualThreads;
+
+    public ConfigurableApplicationContext context;
+    public RentalService rentalService;
+    public GameService gameService;
+    public CustomerService customerService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("benchmark")
+                .properties("spring.threads.virtual.enabled=" + virtualThreads)
+                .run();
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        rentalService = context.getBean(RentalService.class);
+        gameService = context.getBean(GameService.class);
+        customerService = context.getBean(CustomerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public int port() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    public RentalDTO randomRental() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new RentalDTO(1L + random.nextInt(customers), 1L + random.nextInt(games), 3);
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("TRUNCATE outbox_events, waitlist_entries, daily_game_stats, rentals, customers, games");
+
+        jdbcTemplate.update("INSERT INTO games (id, name, image, stock_total, price_per_day, rented_count)"
+                + " SELECT g, 'Game ' || g, 'http://', 1000000, 1500, 0 FROM generate_series(1, ?) g", games);
+        jdbcTemplate.update("INSERT INTO customers (id, name, cpf)"
+                + " SELECT c, 'Customer ' || c, lpad(c::text, 11, '0') FROM generate_series(1, ?) c", customers);
+        jdbcTemplate.update("INSERT INTO rentals"
+                + " (id, rent_date, days_rented, due_date, return_date, original_price, delay_fee, customer_id, game_id)"
+                + " SELECT r, current_date - r % 365, 3, current_date - r % 365 + 3,"
+                + " CASE WHEN r % 10 = 0 THEN NULL ELSE current_date - r % 365 + 3 END,"
+                + " 4500, 0, 1 + r % ?, 1 + r % ?"
+                + " FROM generate_series(1, ?) r", customers, games, rentals);
+
+        jdbcTemplate.execute("UPDATE games g SET rented_count = o.open FROM"
+                + " (SELECT game_id, count(*) AS open FROM rentals WHERE return_date IS NULL GROUP BY game_id) o"
+                + " WHERE g.id = o.game_id");
+        jdbcTemplate.execute("INSERT INTO daily_game_stats"
+                + " (stats_date, game_id, rentals_opened, days_rented_total, original_price_total)"
+                + " SELECT rent_date, game_id, count(*), sum(days_rented), sum(original_price)"
+                + " FROM rentals GROUP BY rent_date, game_id");
+        jdbcTemplate.execute("INSERT INTO daily_game_stats (stats_date, game_id, rentals_returned, delay_fee_total)"
+                + " SELECT return_date, game_id, count(*), sum(delay_fee)"
+                + " FROM rentals WHERE return_date IS NOT NULL GROUP BY return_date, game_id"
+                + " ON CONFLICT (stats_date, game_id) DO UPDATE"
+                + " SET rentals_returned = EXCLUDED.rentals_returned, delay_fee_total = EXCLUDED.delay_fee_total");
+        jdbcTemplate.execute("ANALYZE");
+
+        jdbcTemplate.queryForObject("SELECT setval('games_seq', ?)", Long.class, games);
+        jdbcTemplate.queryForObject("SELECT setval('customers_seq', ?)", Long.class, customers);
+        jdbcTemplate.queryForObject("SELECT setval('rentals_seq', ?)", Long.class, rentals);
+    }
+}
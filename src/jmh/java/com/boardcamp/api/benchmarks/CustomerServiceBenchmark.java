@@ -0,0 +1,46 @@
+package com.boardcamp.api.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.models.CustomerModel;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CustomerServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CpfSequence {
+        AtomicLong next;
+
+        @Setup(Level.Trial)
+        public void setUp(BoardcampState state) {
+            next = new AtomicLong(state.customers + 1L);
+        }
+
+        String nextCpf() {
+            return String.format("%011d", next.getAndIncrement());
+        }
+    }
+
+    @Benchmark
+    public CustomerModel save(BoardcampState state, CpfSequence cpfs) {
+        return state.customerService.save(new CustomerDTO("Customer", cpfs.nextCpf()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.boardcamp.api.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.boardcamp.api.dtos.GameCatalogDTO;
+import com.boardcamp.api.models.GameModel;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GameServiceBenchmark {
+
+    @Benchmark
+    public List<GameModel> findAll(BoardcampState state) {
+        return state.gameService.findAll();
+    }
+
+    @Benchmark
+    public GameCatalogDTO findCatalog(BoardcampState state) {
+        return state.gameService.findCatalog();
+    }
+}
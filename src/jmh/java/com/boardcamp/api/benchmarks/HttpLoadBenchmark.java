@@ -0,0 +1,63 @@
+package com.boardcamp.api.benchmarks;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Keeps {@value #CONCURRENT_REQUESTS} requests in flight against
+ * {@code GET /rentals}, which is bound by JDBC rather than by CPU, and reports
+ * served requests per second. Run it with {@code -p virtualThreads=false,true}
+ * and {@code -prof gc} to compare both modes at the same heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Xmx512m", "-Djdk.tracePinnedThreads=short" })
+public class HttpLoadBenchmark {
+    static final int CONCURRENT_REQUESTS = 500;
+
+    private HttpClient client;
+    private String baseUrl;
+    private int rentals;
+
+    @Setup(Level.Trial)
+    public void setUp(BoardcampState state) {
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + state.port() + "/rentals?limit=50&after=";
+        rentals = state.rentals;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void listRentals() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + random.nextInt(rentals))).build();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        CompletableFuture.allOf(responses).join();
+    }
+}
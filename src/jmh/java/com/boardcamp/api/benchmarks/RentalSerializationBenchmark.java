@@ -0,0 +1,67 @@
+package com.boardcamp.api.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RentalSerializationBenchmark {
+    @Param({ "50", "200", "10000" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<RentalModel> rentals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder().findAndAddModules().build();
+        rentals = new ArrayList<>(size);
+
+        for (long id = 1; id <= size; id++) {
+            CustomerModel customer = new CustomerModel(new CustomerDTO("Customer " + id, String.format("%011d", id)));
+            customer.setId(id);
+
+            GameModel game = new GameModel(new GameDTO("Game " + id, "http://", 3, 1500L), id);
+
+            RentalModel rental = new RentalModel(new RentalDTO(id, id, 3), customer, game);
+            rental.setId(id);
+            rental.setRentDate(LocalDate.now());
+            rental.setOriginalPrice(4500L);
+            rental.setDelayFee(0L);
+            rentals.add(rental);
+        }
+    }
+
+    @Benchmark
+    public byte[] writeRentals() throws Exception {
+        return objectMapper.writeValueAsBytes(rentals);
+    }
+}
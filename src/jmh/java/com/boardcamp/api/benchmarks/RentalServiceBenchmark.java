@@ -0,0 +1,45 @@
+package com.boardcamp.api.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.boardcamp.api.models.RentalModel;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RentalServiceBenchmark {
+
+    @State(Scope.Thread)
+    public static class OpenRental {
+        Long id;
+
+        @Setup(Level.Invocation)
+        public void open(BoardcampState state) {
+            id = state.rentalService.makeRental(state.randomRental()).getId();
+        }
+    }
+
+    @Benchmark
+    public RentalModel makeRental(BoardcampState state) {
+        return state.rentalService.makeRental(state.randomRental());
+    }
+
+    @Benchmark
+    public RentalModel finishRental(BoardcampState state, OpenRental openRental) {
+        return state.rentalService.finishRental(openRental.id);
+    }
+}
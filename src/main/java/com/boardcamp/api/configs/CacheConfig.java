@@ -0,0 +1,53 @@
+package com.boardcamp.api.configs;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String GAMES = "games";
+    public static final String GAME_CATALOG = "gameCatalog";
+    public static final String GAME_CATALOG_SNAPSHOT = "gameCatalogSnapshot";
+    public static final String CUSTOMERS_BY_CPF = "customersByCpf";
+    public static final String IDEMPOTENCY_KEYS = "idempotencyKeys";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${cache.games.spec}") String gamesSpec,
+            @Value("${cache.customers.spec}") String customersSpec,
+            @Value("${idempotency.max-entries}") long idempotencyMaxEntries,
+            @Value("${idempotency.ttl}") Duration idempotencyTtl) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name,
+                    com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return Set.of(GAMES, GAME_CATALOG).contains(name)
+                        ? new GameCache(name, cache, isAllowNullValues())
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        caffeineCacheManager.setCacheSpecification(gamesSpec);
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCacheNames(List.of(GAMES, GAME_CATALOG, GAME_CATALOG_SNAPSHOT));
+        caffeineCacheManager.registerCustomCache(CUSTOMERS_BY_CPF, Caffeine.from(customersSpec).build());
+        caffeineCacheManager.registerCustomCache(IDEMPOTENCY_KEYS, Caffeine.newBuilder()
+                .maximumSize(idempotencyMaxEntries)
+                .expireAfterWrite(idempotencyTtl)
+                .recordStats()
+                .build());
+
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,60 @@
+package com.boardcamp.api.configs;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+@Configuration
+public class EntityCacheConfig {
+    public static final String CUSTOMERS = "customerEntities";
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheCustomizer(
+            @Value("${cache.entities.max-entries}") long entityMaxEntries,
+            @Value("${cache.entities.ttl}") Duration entityTtl,
+            @Value("${cache.queries.max-entries}") long queryMaxEntries,
+            @Value("${cache.queries.ttl}") Duration queryTtl) {
+        return properties -> {
+            // The provider's default manager is shared by every persistence unit in the JVM, so regions
+            // that already exist are reused rather than created again.
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                    .getCacheManager();
+
+            // Games are not cached here, since games by id and the catalog already live in the Spring caches of
+            // CacheConfig.
+            createRegion(cacheManager, CUSTOMERS, OptionalLong.of(entityMaxEntries), entityTtl);
+            createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                    OptionalLong.of(queryMaxEntries), queryTtl);
+            // Hibernate checks cached queries against these per-table timestamps, so they must never be evicted.
+            createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                    OptionalLong.empty(), null);
+
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maxEntries, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxEntries);
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        cacheManager.createCache(name, configuration);
+    }
+}
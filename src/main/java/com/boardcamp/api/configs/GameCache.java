@@ -0,0 +1,36 @@
+package com.boardcamp.api.configs;
+
+import java.util.List;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.boardcamp.api.models.GameModel;
+import com.github.benmanes.caffeine.cache.Cache;
+
+// Games are mutable entities, so the cache keeps its own copies and hands out fresh ones: a caller changing a game
+// it saved or looked up cannot change what every later reader is served.
+class GameCache extends CaffeineCache {
+    GameCache(String name, Cache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        return super.toStoreValue(copy(userValue));
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        return copy(super.fromStoreValue(storeValue));
+    }
+
+    private static Object copy(Object value) {
+        if (value instanceof GameModel game) {
+            return new GameModel(game);
+        }
+        if (value instanceof List<?> games) {
+            return games.stream().map(GameCache::copy).toList();
+        }
+        return value;
+    }
+}
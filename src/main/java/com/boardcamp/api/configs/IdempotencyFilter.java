@@ -0,0 +1,152 @@
+package com.boardcamp.api.configs;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.boardcamp.api.exceptions.InvalidIdempotencyKeyException;
+import com.boardcamp.api.models.IdempotencyKeyModel;
+import com.boardcamp.api.services.IdempotencyService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final int MAX_KEY_LENGTH = 200;
+
+    private final IdempotencyService idempotencyService;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    IdempotencyFilter(IdempotencyService idempotencyService, HandlerExceptionResolver handlerExceptionResolver) {
+        this.idempotencyService = idempotencyService;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        byte[] body = request.getInputStream().readAllBytes();
+
+        String key = request.getRequestURI() + ":" + header;
+        String requestHash = sha256(body);
+        IdempotencyKeyModel stored;
+
+        try {
+            if (header.isBlank() || header.length() > MAX_KEY_LENGTH) {
+                throw new InvalidIdempotencyKeyException(
+                        "Idempotency-Key must not be blank and must have at most " + MAX_KEY_LENGTH + " characters");
+            }
+            stored = idempotencyService.claim(key, requestHash);
+        } catch (RuntimeException exception) {
+            if (handlerExceptionResolver.resolveException(request, response, null, exception) == null) {
+                throw exception;
+            }
+            return;
+        }
+
+        if (stored != null) {
+            response.setStatus(stored.getResponseStatus());
+            response.setContentType(stored.getResponseContentType());
+            response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+            response.getOutputStream().write(stored.getResponseBody());
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        boolean completed = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), responseWrapper);
+
+            if (HttpStatus.valueOf(responseWrapper.getStatus()).is2xxSuccessful()) {
+                idempotencyService.complete(new IdempotencyKeyModel(key, requestHash, responseWrapper.getStatus(),
+                        responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(),
+                        LocalDateTime.now()));
+                completed = true;
+            }
+        } finally {
+            if (!completed) {
+                idempotencyService.release(key);
+            }
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(body);
+
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return inputStream.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return inputStream.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return inputStream.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.boardcamp.api.configs;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+    public static final String RENTALS_MAKE = "boardcamp.rentals.make";
+    public static final String RENTALS_FINISH = "boardcamp.rentals.finish";
+    public static final String RENTALS_OVERDUE_SCAN = "boardcamp.rentals.overdue.scan";
+    public static final String CUSTOMERS_SAVE = "boardcamp.customers.save";
+    public static final String GAMES_FIND_ALL = "boardcamp.games.find_all";
+    public static final String GAMES_CATALOG = "boardcamp.games.catalog";
+    public static final String GAMES_COUNTER_DRIFT = "boardcamp.games.counter_drift";
+    public static final String OUTBOX_PUBLISH = "boardcamp.outbox.publish";
+    public static final String REQUESTS_REJECTED = "boardcamp.requests.rejected";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
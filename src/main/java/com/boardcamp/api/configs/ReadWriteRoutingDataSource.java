@@ -0,0 +1,61 @@
+package com.boardcamp.api.configs;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final DataSource primary;
+    private final Duration retryAfter;
+    private volatile Instant replicaRetryAt = Instant.MIN;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, Duration retryAfter) {
+        this.primary = primary;
+        this.retryAfter = retryAfter;
+
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        try {
+            return super.getConnection();
+        } catch (SQLException exception) {
+            if (determineCurrentLookupKey() != Route.REPLICA) {
+                throw exception;
+            }
+
+            replicaRetryAt = Instant.now().plus(retryAfter);
+            LOGGER.warn("Replica unavailable, reading from the primary for the next {}", retryAfter, exception);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !Instant.now().isBefore(replicaRetryAt)) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
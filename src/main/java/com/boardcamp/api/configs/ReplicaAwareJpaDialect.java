@@ -0,0 +1,51 @@
+package com.boardcamp.api.configs;
+
+import java.sql.SQLException;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+
+// Read-only transactions may be served by a lagging replica, so they never put what they loaded into the
+// second-level cache. Lookups by id follow the store mode property, while queries follow the session's cache mode
+// and skip the query cache altogether, since a cache miss under CacheMode.GET still puts the result. For the same
+// reason, repository methods that fill an application cache or the query cache are declared read-write, so the
+// entries they cache are always read from the primary.
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        ReadOnlyTransactionData readOnly = new ReadOnlyTransactionData(transactionData, session,
+                session.getProperties().get(STORE_MODE), session.getCacheMode());
+        session.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        session.setCacheMode(CacheMode.IGNORE);
+        return readOnly;
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            readOnly.session().setProperty(STORE_MODE,
+                    readOnly.previousStoreMode() == null ? CacheStoreMode.USE : readOnly.previousStoreMode());
+            readOnly.session().setCacheMode(readOnly.previousCacheMode());
+            transactionData = readOnly.delegate();
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object delegate, Session session, Object previousStoreMode,
+            CacheMode previousCacheMode) {
+    }
+}
@@ -1,15 +1,38 @@
 package com.boardcamp.api.configs;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.boardcamp.api.dtos.RentalStatus;
+import com.boardcamp.api.services.IdempotencyService;
+
 @Configuration
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
     @Override
     public void addCorsMappings(CorsRegistry registry) {
-        registry.addMapping("/**");
+        registry.addMapping("/**").exposedHeaders("X-Next-Cursor", IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER);
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, RentalStatus.class,
+                source -> RentalStatus.valueOf(source.trim().toUpperCase()));
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService idempotencyService,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(idempotencyService, handlerExceptionResolver));
+        registration.addUrlPatterns("/rentals", "/customers");
+        return registration;
     }
-}
\ No newline at end of file
+}
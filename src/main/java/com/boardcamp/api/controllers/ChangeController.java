@@ -0,0 +1,30 @@
+package com.boardcamp.api.controllers;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boardcamp.api.dtos.ChangesDTO;
+import com.boardcamp.api.services.ChangeService;
+
+import jakarta.validation.constraints.Min;
+
+@RestController
+@RequestMapping("/changes")
+public class ChangeController {
+    private final ChangeService changeService;
+
+    ChangeController(ChangeService changeService) {
+        this.changeService = changeService;
+    }
+
+    @GetMapping
+    public ResponseEntity<ChangesDTO> findChanges(@RequestParam(required = false) String since,
+            @RequestParam(required = false) @Min(value = 1, message = "Limit must be greater than 0") Integer limit) {
+        ChangesDTO changes = changeService.findChanges(since, limit);
+        return ResponseEntity.status(HttpStatus.OK).body(changes);
+    }
+}
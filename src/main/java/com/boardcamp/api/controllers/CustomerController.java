@@ -4,10 +4,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.CustomerFilterDTO;
+import com.boardcamp.api.dtos.CustomerPageDTO;
+import com.boardcamp.api.dtos.CustomerRentalHistoryDTO;
 import com.boardcamp.api.models.CustomerModel;
 import com.boardcamp.api.services.CustomerService;
+import com.boardcamp.api.services.RentalService;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,14 +22,30 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
 @RequestMapping("/customers")
 public class CustomerController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CustomerService customerService;
+    private final RentalService rentalService;
 
-    CustomerController(CustomerService customerService) {
+    CustomerController(CustomerService customerService, RentalService rentalService) {
         this.customerService = customerService;
+        this.rentalService = rentalService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CustomerModel>> findAll(@Valid CustomerFilterDTO filter) {
+        CustomerPageDTO page = customerService.findPage(filter);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response.body(page.getCustomers());
     }
 
     @GetMapping("/{id}")
@@ -31,6 +54,25 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.OK).body(customer);
     }
 
+    @GetMapping("/{id}/rentals")
+    public ResponseEntity<CustomerRentalHistoryDTO> findRentals(@PathVariable Long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) @Min(value = 1, message = "Limit must be greater than 0") Integer limit) {
+        CustomerRentalHistoryDTO history = rentalService.findCustomerHistory(id, after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (history.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, history.getNextCursor().toString());
+        }
+        return response.body(history);
+    }
+
+    @GetMapping(params = "cpf")
+    public ResponseEntity<CustomerModel> findByCpf(@RequestParam String cpf) {
+        CustomerModel customer = customerService.findByCpf(cpf);
+        return ResponseEntity.status(HttpStatus.OK).body(customer);
+    }
+
     @PostMapping
     public ResponseEntity<CustomerModel> create(@RequestBody @Valid CustomerDTO body) {
         CustomerModel customer = customerService.save(body);
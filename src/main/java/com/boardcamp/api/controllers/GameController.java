@@ -1,19 +1,22 @@
 package com.boardcamp.api.controllers;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.boardcamp.api.dtos.GameAvailabilityDTO;
+import com.boardcamp.api.dtos.GameCatalogDTO;
 import com.boardcamp.api.dtos.GameDTO;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.services.GameService;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
@@ -27,9 +30,18 @@ public class GameController {
     }
 
     @GetMapping
-    public ResponseEntity<List<GameModel>> listAll() {
-        List<GameModel> games = gameService.findAll();
-        return ResponseEntity.status(HttpStatus.OK).body(games);
+    public ResponseEntity<byte[]> listAll() {
+        GameCatalogDTO catalog = gameService.findCatalog();
+        return ResponseEntity.status(HttpStatus.OK)
+                .eTag(catalog.getEtag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(catalog.getBody());
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<List<GameAvailabilityDTO>> listAvailability() {
+        List<GameAvailabilityDTO> availability = gameService.findAvailability();
+        return ResponseEntity.status(HttpStatus.OK).body(availability);
     }
 
     @PostMapping
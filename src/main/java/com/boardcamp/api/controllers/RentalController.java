@@ -3,34 +3,82 @@ package com.boardcamp.api.controllers;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.boardcamp.api.dtos.OverdueRentalDTO;
+import com.boardcamp.api.dtos.OverdueRentalPageDTO;
+import com.boardcamp.api.dtos.RentalBatchResultDTO;
 import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalFilterDTO;
+import com.boardcamp.api.dtos.RentalPageDTO;
+import com.boardcamp.api.dtos.RentalReturnResultDTO;
 import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.services.OverdueRentalService;
+import com.boardcamp.api.services.RentalExportService;
 import com.boardcamp.api.services.RentalService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
+import java.io.IOException;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
 @RequestMapping("/rentals")
 public class RentalController {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final RentalService rentalService;
+    private final RentalExportService rentalExportService;
+    private final OverdueRentalService overdueRentalService;
 
-    RentalController(RentalService rentalService) {
+    RentalController(RentalService rentalService, RentalExportService rentalExportService,
+            OverdueRentalService overdueRentalService) {
         this.rentalService = rentalService;
+        this.rentalExportService = rentalExportService;
+        this.overdueRentalService = overdueRentalService;
     }
 
     @GetMapping
-    public ResponseEntity<List<RentalModel>> findAll() {
-        return ResponseEntity.status(HttpStatus.OK).body(rentalService.findAll());
+    public ResponseEntity<List<RentalModel>> findAll(@Valid RentalFilterDTO filter) {
+        RentalPageDTO page = rentalService.findPage(filter);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response.body(page.getRentals());
+    }
+
+    @GetMapping("/overdue")
+    public ResponseEntity<List<OverdueRentalDTO>> findOverdue(@RequestParam(required = false) Long after,
+            @RequestParam(required = false) @Min(value = 1, message = "Limit must be greater than 0") Integer limit) {
+        OverdueRentalPageDTO page = overdueRentalService.findPage(after, limit);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor().toString());
+        }
+        return response.body(page.getRentals());
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        rentalExportService.exportTo(response.getOutputStream());
     }
 
     @PostMapping
@@ -39,6 +87,26 @@ public class RentalController {
         return ResponseEntity.status(HttpStatus.CREATED).body(rental);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<RentalBatchResultDTO>> createBatch(
+            @RequestBody @NotEmpty @Size(max = RentalService.MAX_BATCH_SIZE) List<@Valid RentalDTO> body) {
+        List<RentalBatchResultDTO> results = rentalService.makeRentals(body);
+
+        boolean allCreated = results.stream().allMatch(result -> result.getStatus() == HttpStatus.CREATED.value());
+        HttpStatus status = allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(results);
+    }
+
+    @PutMapping("/batch/return")
+    public ResponseEntity<List<RentalReturnResultDTO>> returnBatch(
+            @RequestBody @NotEmpty @Size(max = RentalService.MAX_BATCH_SIZE) List<@NotNull Long> body) {
+        List<RentalReturnResultDTO> results = rentalService.finishRentals(body);
+
+        boolean allReturned = results.stream().allMatch(result -> result.getStatus() == HttpStatus.OK.value());
+        HttpStatus status = allReturned ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(results);
+    }
+
     @PutMapping("/{id}/return")
     public ResponseEntity<RentalModel> putMethodName(@PathVariable Long id) {
         RentalModel rental = rentalService.finishRental(id);
@@ -0,0 +1,36 @@
+package com.boardcamp.api.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boardcamp.api.dtos.DailyRevenueDTO;
+import com.boardcamp.api.dtos.GameUtilizationDTO;
+import com.boardcamp.api.dtos.ReportFilterDTO;
+import com.boardcamp.api.services.ReportService;
+
+@RestController
+@RequestMapping("/reports")
+public class ReportController {
+    private final ReportService reportService;
+
+    ReportController(ReportService reportService) {
+        this.reportService = reportService;
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<List<DailyRevenueDTO>> revenue(ReportFilterDTO filter) {
+        List<DailyRevenueDTO> revenue = reportService.findDailyRevenue(filter);
+        return ResponseEntity.status(HttpStatus.OK).body(revenue);
+    }
+
+    @GetMapping("/games")
+    public ResponseEntity<List<GameUtilizationDTO>> games(ReportFilterDTO filter) {
+        List<GameUtilizationDTO> games = reportService.findGameUtilization(filter);
+        return ResponseEntity.status(HttpStatus.OK).body(games);
+    }
+}
@@ -0,0 +1,48 @@
+package com.boardcamp.api.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.boardcamp.api.dtos.WaitlistDTO;
+import com.boardcamp.api.models.WaitlistEntryModel;
+import com.boardcamp.api.services.WaitlistService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/waitlist")
+public class WaitlistController {
+    private final WaitlistService waitlistService;
+
+    WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WaitlistEntryModel>> findByGame(@RequestParam Long gameId) {
+        List<WaitlistEntryModel> entries = waitlistService.findByGame(gameId);
+        return ResponseEntity.status(HttpStatus.OK).body(entries);
+    }
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntryModel> create(@RequestBody @Valid WaitlistDTO body) {
+        WaitlistEntryModel entry = waitlistService.enqueue(body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable Long id) {
+        waitlistService.leave(id);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.boardcamp.api.dtos;
+
+import java.util.List;
+
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangesDTO {
+
+    private List<GameModel> games;
+
+    private List<CustomerModel> customers;
+
+    private List<RentalEventDTO> rentals;
+
+    private String nextToken;
+
+    private boolean hasMore;
+}
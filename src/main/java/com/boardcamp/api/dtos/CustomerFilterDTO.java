@@ -0,0 +1,21 @@
+package com.boardcamp.api.dtos;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CustomerFilterDTO {
+
+    private String name;
+
+    @Pattern(regexp = "\\d{1,11}", message = "CPF prefix must have up to 11 digits")
+    private String cpfPrefix;
+
+    private Long after;
+
+    @Min(value = 1, message = "Limit must be greater than 0")
+    private Integer limit;
+}
@@ -0,0 +1,17 @@
+package com.boardcamp.api.dtos;
+
+import java.util.List;
+
+import com.boardcamp.api.models.CustomerModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CustomerPageDTO {
+
+    private List<CustomerModel> customers;
+
+    private Long nextCursor;
+}
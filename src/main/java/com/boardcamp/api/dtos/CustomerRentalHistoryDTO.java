@@ -0,0 +1,21 @@
+package com.boardcamp.api.dtos;
+
+import java.util.List;
+
+import com.boardcamp.api.models.RentalModel;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CustomerRentalHistoryDTO {
+
+    private CustomerRentalSummaryDTO summary;
+
+    private List<RentalModel> rentals;
+
+    @JsonIgnore
+    private Long nextCursor;
+}
@@ -0,0 +1,17 @@
+package com.boardcamp.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CustomerRentalSummaryDTO {
+
+    private Long totalRentals;
+
+    private Long openRentals;
+
+    private Long lateRentals;
+
+    private Long totalSpent;
+}
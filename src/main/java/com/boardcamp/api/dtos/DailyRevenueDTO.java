@@ -0,0 +1,26 @@
+package com.boardcamp.api.dtos;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class DailyRevenueDTO {
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+
+    private Long rentalsOpened;
+
+    private Long rentalsReturned;
+
+    private Long originalPriceTotal;
+
+    private Long delayFeeTotal;
+
+    private Long revenue;
+}
@@ -0,0 +1,15 @@
+package com.boardcamp.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GameAvailabilityDTO {
+
+    private Long gameId;
+
+    private Integer stockTotal;
+
+    private Integer available;
+}
@@ -0,0 +1,13 @@
+package com.boardcamp.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GameCatalogDTO {
+
+    private byte[] body;
+
+    private String etag;
+}
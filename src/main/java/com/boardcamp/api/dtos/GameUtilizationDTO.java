@@ -0,0 +1,23 @@
+package com.boardcamp.api.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class GameUtilizationDTO {
+
+    private Long gameId;
+
+    private String name;
+
+    private Long rentalsOpened;
+
+    private Long rentalsReturned;
+
+    private Long originalPriceTotal;
+
+    private Long delayFeeTotal;
+
+    private Double utilization;
+}
@@ -0,0 +1,34 @@
+package com.boardcamp.api.dtos;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueRentalDTO {
+
+    public OverdueRentalDTO(Long rentalId, Long customerId, Long gameId, LocalDate dueDate, Long pricePerDay) {
+        this(rentalId, customerId, gameId, dueDate, pricePerDay, null, null);
+    }
+
+    private Long rentalId;
+
+    private Long customerId;
+
+    private Long gameId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+
+    private Long pricePerDay;
+
+    private Long daysLate;
+
+    private Long projectedDelayFee;
+}
@@ -0,0 +1,15 @@
+package com.boardcamp.api.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OverdueRentalPageDTO {
+
+    private List<OverdueRentalDTO> rentals;
+
+    private Long nextCursor;
+}
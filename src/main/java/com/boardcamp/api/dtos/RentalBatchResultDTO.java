@@ -0,0 +1,17 @@
+package com.boardcamp.api.dtos;
+
+import com.boardcamp.api.models.RentalModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RentalBatchResultDTO {
+
+    private int status;
+
+    private String message;
+
+    private RentalModel rental;
+}
@@ -0,0 +1,49 @@
+package com.boardcamp.api.dtos;
+
+import java.time.LocalDate;
+
+import com.boardcamp.api.models.RentalModel;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalEventDTO {
+
+    public RentalEventDTO(RentalModel rental) {
+        this.rentalId = rental.getId();
+        this.customerId = rental.getCustomer().getId();
+        this.gameId = rental.getGame().getId();
+        this.rentDate = rental.getRentDate();
+        this.daysRented = rental.getDaysRented();
+        this.dueDate = rental.getDueDate();
+        this.returnDate = rental.getReturnDate();
+        this.originalPrice = rental.getOriginalPrice();
+        this.delayFee = rental.getDelayFee();
+    }
+
+    private Long rentalId;
+
+    private Long customerId;
+
+    private Long gameId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate rentDate;
+
+    private int daysRented;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate returnDate;
+
+    private Long originalPrice;
+
+    private Long delayFee;
+}
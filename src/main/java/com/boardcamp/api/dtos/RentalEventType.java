@@ -0,0 +1,7 @@
+package com.boardcamp.api.dtos;
+
+// Declared in the order a rental goes through them, which is the order its events are published in.
+public enum RentalEventType {
+    RENTAL_CREATED,
+    RENTAL_RETURNED
+}
@@ -0,0 +1,31 @@
+package com.boardcamp.api.dtos;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RentalFilterDTO {
+
+    private Long customerId;
+
+    private Long gameId;
+
+    private RentalStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private Long after;
+
+    @Min(value = 1, message = "Limit must be greater than 0")
+    private Integer limit;
+}
@@ -0,0 +1,17 @@
+package com.boardcamp.api.dtos;
+
+import java.util.List;
+
+import com.boardcamp.api.models.RentalModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RentalPageDTO {
+
+    private List<RentalModel> rentals;
+
+    private Long nextCursor;
+}
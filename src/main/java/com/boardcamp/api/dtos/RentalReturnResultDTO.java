@@ -0,0 +1,19 @@
+package com.boardcamp.api.dtos;
+
+import com.boardcamp.api.models.RentalModel;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class RentalReturnResultDTO {
+
+    private Long rentalId;
+
+    private int status;
+
+    private String message;
+
+    private RentalModel rental;
+}
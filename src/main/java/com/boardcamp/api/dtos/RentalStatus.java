@@ -0,0 +1,7 @@
+package com.boardcamp.api.dtos;
+
+public enum RentalStatus {
+    OPEN,
+    RETURNED,
+    LATE
+}
@@ -0,0 +1,16 @@
+package com.boardcamp.api.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WaitlistDTO {
+
+    @NotNull(message = "Customer id must not be null")
+    private Long customerId;
+
+    @NotNull(message = "Game id must not be null")
+    private Long gameId;
+}
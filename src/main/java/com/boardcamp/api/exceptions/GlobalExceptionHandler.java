@@ -5,40 +5,93 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
+import com.boardcamp.api.configs.MetricsConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    private final MeterRegistry meterRegistry;
+
+    GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler({ GameConflictException.class })
     public ResponseEntity<Object> handlerGameConflict(GameConflictException exception) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+        return reject(exception, HttpStatus.CONFLICT);
     }
 
     @ExceptionHandler({ GameNotFoundException.class })
     public ResponseEntity<Object> handlerGameNotFound(GameNotFoundException exception) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        return reject(exception, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler({ CustomerCPFConflict.class })
     public ResponseEntity<Object> handlerCustomerCPFConflict(CustomerCPFConflict exception) {
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+        return reject(exception, HttpStatus.CONFLICT);
     }
 
     @ExceptionHandler({ CustomerNotFoundException.class })
     public ResponseEntity<Object> handlerCustomerNotFoundException(CustomerNotFoundException exception) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        return reject(exception, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler({ RentalOutOfStockException.class })
     public ResponseEntity<Object> handlerRentalOutOfStockException(RentalOutOfStockException exception) {
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(exception.getMessage());
+        return reject(exception, HttpStatus.UNPROCESSABLE_ENTITY);
     }
 
     @ExceptionHandler({ RentalNotFoundException.class })
     public ResponseEntity<Object> handlerRentalNotFoundException(RentalNotFoundException exception) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        return reject(exception, HttpStatus.NOT_FOUND);
     }
 
     @ExceptionHandler({ RentalAlreadyReturnedException.class })
     public ResponseEntity<Object> handlerRentalAlreadyReturnedException(RentalAlreadyReturnedException exception) {
-        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(exception.getMessage());
+        return reject(exception, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler({ InvalidReportPeriodException.class })
+    public ResponseEntity<Object> handlerInvalidReportPeriodException(InvalidReportPeriodException exception) {
+        return reject(exception, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ WaitlistConflictException.class })
+    public ResponseEntity<Object> handlerWaitlistConflictException(WaitlistConflictException exception) {
+        return reject(exception, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler({ WaitlistEntryNotFoundException.class })
+    public ResponseEntity<Object> handlerWaitlistEntryNotFoundException(WaitlistEntryNotFoundException exception) {
+        return reject(exception, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler({ InvalidIdempotencyKeyException.class })
+    public ResponseEntity<Object> handlerInvalidIdempotencyKeyException(InvalidIdempotencyKeyException exception) {
+        return reject(exception, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ IdempotencyKeyConflictException.class })
+    public ResponseEntity<Object> handlerIdempotencyKeyConflictException(IdempotencyKeyConflictException exception) {
+        return reject(exception, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler({ IdempotencyKeyMismatchException.class })
+    public ResponseEntity<Object> handlerIdempotencyKeyMismatchException(IdempotencyKeyMismatchException exception) {
+        return reject(exception, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @ExceptionHandler({ InvalidChangeTokenException.class })
+    public ResponseEntity<Object> handlerInvalidChangeTokenException(InvalidChangeTokenException exception) {
+        return reject(exception, HttpStatus.BAD_REQUEST);
+    }
+
+    private ResponseEntity<Object> reject(RuntimeException exception, HttpStatus status) {
+        meterRegistry.counter(MetricsConfig.REQUESTS_REJECTED,
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+
+        return ResponseEntity.status(status).body(exception.getMessage());
     }
 }
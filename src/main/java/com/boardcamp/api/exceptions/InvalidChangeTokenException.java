@@ -0,0 +1,7 @@
+package com.boardcamp.api.exceptions;
+
+public class InvalidChangeTokenException extends RuntimeException {
+    public InvalidChangeTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.boardcamp.api.exceptions;
+
+public class InvalidReportPeriodException extends RuntimeException {
+    public InvalidReportPeriodException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.boardcamp.api.exceptions;
+
+public class WaitlistConflictException extends RuntimeException {
+    public WaitlistConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.boardcamp.api.exceptions;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+    public WaitlistEntryNotFoundException(String message) {
+        super(message);
+    }
+}
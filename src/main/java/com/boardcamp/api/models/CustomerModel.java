@@ -1,13 +1,22 @@
 package com.boardcamp.api.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.boardcamp.api.configs.EntityCacheConfig;
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,21 +26,37 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "customers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.CUSTOMERS)
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
+@Table(name = "customers", uniqueConstraints = @UniqueConstraint(name = CustomerModel.CPF_CONSTRAINT,
+        columnNames = "cpf"))
 public class CustomerModel {
+    public static final int ID_ALLOCATION_SIZE = 50;
+    public static final String CPF_CONSTRAINT = "customers_cpf_key";
+
     public CustomerModel(CustomerDTO dto) {
         this.name = dto.getName();
         this.cpf = dto.getCpf();
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customers_seq")
+    @SequenceGenerator(name = "customers_seq", sequenceName = "customers_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
     private String name;
 
     @Size(min = 11, max = 11)
-    @Column(nullable = false, unique = true, length = 11)
+    @Column(nullable = false, length = 11)
     private String cpf;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeXid;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
 }
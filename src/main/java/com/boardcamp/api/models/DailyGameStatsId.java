@@ -0,0 +1,18 @@
+package com.boardcamp.api.models;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyGameStatsId implements Serializable {
+
+    private LocalDate statsDate;
+
+    private Long gameId;
+}
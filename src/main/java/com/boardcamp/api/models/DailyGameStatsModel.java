@@ -0,0 +1,42 @@
+package com.boardcamp.api.models;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(DailyGameStatsId.class)
+@Table(name = "daily_game_stats")
+public class DailyGameStatsModel {
+
+    @Id
+    private LocalDate statsDate;
+
+    @Id
+    private Long gameId;
+
+    @Column(nullable = false)
+    private int rentalsOpened;
+
+    @Column(nullable = false)
+    private int rentalsReturned;
+
+    @Column(nullable = false)
+    private Long daysRentedTotal;
+
+    @Column(nullable = false)
+    private Long originalPriceTotal;
+
+    @Column(nullable = false)
+    private Long delayFeeTotal;
+}
@@ -1,12 +1,15 @@
 package com.boardcamp.api.models;
 
 import com.boardcamp.api.dtos.GameDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -16,8 +19,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 @Table(name = "games")
 public class GameModel {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     public GameModel(GameDTO dto) {
         this.name = dto.getName();
         this.image = dto.getImage();
@@ -33,8 +39,14 @@ public class GameModel {
         this.pricePerDay = dto.getPricePerDay();
     }
 
+    public GameModel(GameModel game) {
+        this(game.id, game.name, game.image, game.stockTotal, game.pricePerDay, game.rentedCount, game.changeXid,
+                game.changeVersion);
+    }
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "games_seq")
+    @SequenceGenerator(name = "games_seq", sequenceName = "games_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -48,4 +60,16 @@ public class GameModel {
 
     @Column(nullable = false)
     private Long pricePerDay;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false, columnDefinition = "INTEGER DEFAULT 0")
+    private int rentedCount;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeXid;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
 }
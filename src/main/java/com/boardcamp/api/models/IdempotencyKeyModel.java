@@ -0,0 +1,47 @@
+package com.boardcamp.api.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyKeyModel {
+
+    public IdempotencyKeyModel(String idempotencyKey, String requestHash) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestHash = requestHash;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Id
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String requestHash;
+
+    @Column(nullable = true)
+    private Integer responseStatus;
+
+    @Column(nullable = true)
+    private String responseContentType;
+
+    @Column(nullable = true)
+    private byte[] responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isCompleted() {
+        return responseStatus != null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.boardcamp.api.models;
+
+import java.time.LocalDateTime;
+
+import com.boardcamp.api.dtos.RentalEventType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEventModel {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public OutboxEventModel(RentalEventType eventType, Long rentalId, String payload) {
+        this.eventType = eventType;
+        this.rentalId = rentalId;
+        this.rentalSequence = eventType.ordinal();
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private RentalEventType eventType;
+
+    @Column(nullable = false)
+    private Long rentalId;
+
+    @JsonIgnore
+    @Column(nullable = false)
+    private int rentalSequence;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    @JsonRawValue
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
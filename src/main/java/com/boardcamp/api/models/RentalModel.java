@@ -4,12 +4,17 @@ import java.time.LocalDate;
 
 import com.boardcamp.api.dtos.RentalDTO;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,6 +28,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "rentals")
 public class RentalModel {
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     public RentalModel(RentalDTO dto, CustomerModel customer, GameModel game) {
         this.daysRented = dto.getDaysRented();
         this.customer = customer;
@@ -30,7 +37,8 @@ public class RentalModel {
     }
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rentals_seq")
+    @SequenceGenerator(name = "rentals_seq", sequenceName = "rentals_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, columnDefinition = "DATE DEFAULT CURRENT_DATE")
@@ -40,6 +48,10 @@ public class RentalModel {
     @Column(nullable = false)
     private int daysRented;
 
+    @Column(nullable = false)
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate dueDate;
+
     @Column(nullable = true)
     @JsonFormat(pattern = "yyyy-MM-dd")
     private LocalDate returnDate;
@@ -50,11 +62,29 @@ public class RentalModel {
     @Column(nullable = false)
     private Long delayFee;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customerId")
     private CustomerModel customer;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "gameId")
     private GameModel game;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeXid;
+
+    @JsonIgnore
+    @Column(nullable = false, insertable = false, updatable = false)
+    private Long changeVersion;
+
+    // A missing rent date falls back to today, like the column default.
+    @PrePersist
+    @PreUpdate
+    void computeDueDate() {
+        if (rentDate == null) {
+            this.rentDate = LocalDate.now();
+        }
+        this.dueDate = rentDate.plusDays(daysRented);
+    }
 }
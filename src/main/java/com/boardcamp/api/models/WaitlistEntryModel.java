@@ -0,0 +1,52 @@
+package com.boardcamp.api.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "waitlist_entries")
+public class WaitlistEntryModel {
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    public WaitlistEntryModel(CustomerModel customer, GameModel game) {
+        this.customer = customer;
+        this.game = game;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "waitlist_entries_seq")
+    @SequenceGenerator(name = "waitlist_entries_seq", sequenceName = "waitlist_entries_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "customerId", nullable = false)
+    private CustomerModel customer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "gameId", nullable = false)
+    private GameModel game;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = true)
+    private LocalDateTime holdExpiresAt;
+}
@@ -1,11 +1,61 @@
 package com.boardcamp.api.repositories;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.boardcamp.api.configs.CacheConfig;
 import com.boardcamp.api.models.CustomerModel;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<CustomerModel, Long> {
-    boolean existsByCpf(String cpf);
+public interface CustomerRepository
+        extends JpaRepository<CustomerModel, Long>, JpaSpecificationExecutor<CustomerModel> {
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.CUSTOMERS_BY_CPF, key = "#cpf", unless = "#result == null")
+    Optional<CustomerModel> findByCpf(String cpf);
+
+    // Only the filters that were given reach the WHERE clause, so the planner can match each one to its
+    // pattern index instead of planning around "IS NULL OR" branches.
+    default List<CustomerModel> findPage(Long after, String namePattern, String cpfPattern, Pageable pageable) {
+        Specification<CustomerModel> specification = Specification.where(null);
+        if (after != null) {
+            specification = specification.and((customer, query, builder) -> builder.greaterThan(
+                    customer.get("id"), after));
+        }
+        if (namePattern != null) {
+            specification = specification.and((customer, query, builder) -> builder.like(
+                    builder.lower(customer.get("name")), namePattern, '\\'));
+        }
+        if (cpfPattern != null) {
+            specification = specification.and((customer, query, builder) -> builder.like(
+                    customer.get("cpf"), cpfPattern));
+        }
+
+        return findBy(specification, query -> query.sortBy(Sort.by("id")).limit(pageable.getPageSize()).all());
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CUSTOMERS_BY_CPF, allEntries = true)
+    void deleteAll();
+
+    @Query("SELECT c FROM CustomerModel c"
+            + " WHERE c.changeXid >= :xid AND c.changeXid < :horizon"
+            + " AND (c.changeXid > :xid OR c.changeVersion > :version)"
+            + " ORDER BY c.changeXid, c.changeVersion")
+    List<CustomerModel> findChangedAfter(
+            @Param("xid") long xid,
+            @Param("version") long version,
+            @Param("horizon") long horizon,
+            Pageable pageable);
 }
@@ -0,0 +1,83 @@
+package com.boardcamp.api.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.dtos.DailyRevenueDTO;
+import com.boardcamp.api.dtos.GameUtilizationDTO;
+import com.boardcamp.api.models.DailyGameStatsId;
+import com.boardcamp.api.models.DailyGameStatsModel;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface DailyGameStatsRepository extends JpaRepository<DailyGameStatsModel, DailyGameStatsId> {
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_game_stats"))
+    @Query(value = "INSERT INTO daily_game_stats AS s"
+            + " (stats_date, game_id, rentals_opened, days_rented_total, original_price_total)"
+            + " VALUES (:statsDate, :gameId, :rentals, :daysRented, :originalPrice)"
+            + " ON CONFLICT (stats_date, game_id) DO UPDATE SET"
+            + " rentals_opened = s.rentals_opened + EXCLUDED.rentals_opened,"
+            + " days_rented_total = s.days_rented_total + EXCLUDED.days_rented_total,"
+            + " original_price_total = s.original_price_total + EXCLUDED.original_price_total", nativeQuery = true)
+    void recordOpened(
+            @Param("gameId") Long gameId,
+            @Param("statsDate") LocalDate statsDate,
+            @Param("rentals") int rentals,
+            @Param("daysRented") long daysRented,
+            @Param("originalPrice") long originalPrice);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_game_stats"))
+    @Query(value = "INSERT INTO daily_game_stats AS s"
+            + " (stats_date, game_id, rentals_returned, delay_fee_total)"
+            + " VALUES (:statsDate, :gameId, :rentals, :delayFee)"
+            + " ON CONFLICT (stats_date, game_id) DO UPDATE SET"
+            + " rentals_returned = s.rentals_returned + EXCLUDED.rentals_returned,"
+            + " delay_fee_total = s.delay_fee_total + EXCLUDED.delay_fee_total", nativeQuery = true)
+    void recordReturned(
+            @Param("gameId") Long gameId,
+            @Param("statsDate") LocalDate statsDate,
+            @Param("rentals") int rentals,
+            @Param("delayFee") long delayFee);
+
+    @Query("SELECT new com.boardcamp.api.dtos.DailyRevenueDTO(s.statsDate,"
+            + " SUM(s.rentalsOpened), SUM(s.rentalsReturned), SUM(s.originalPriceTotal), SUM(s.delayFeeTotal),"
+            + " SUM(s.originalPriceTotal) + SUM(s.delayFeeTotal))"
+            + " FROM DailyGameStatsModel s"
+            + " WHERE s.statsDate BETWEEN :startDate AND :endDate"
+            + " GROUP BY s.statsDate ORDER BY s.statsDate")
+    List<DailyRevenueDTO> findDailyRevenue(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate);
+
+    // A copy is out from its rent date until its return date, or while open until the later of its due date and
+    // today. Only the days inside the period count, so utilization never goes above 1.
+    @Query("SELECT new com.boardcamp.api.dtos.GameUtilizationDTO(g.id, g.name,"
+            + " COALESCE(SUM(s.rentalsOpened), 0), COALESCE(SUM(s.rentalsReturned), 0),"
+            + " COALESCE(SUM(s.originalPriceTotal), 0), COALESCE(SUM(s.delayFeeTotal), 0),"
+            + " CAST(COALESCE((SELECT SUM((LEAST(COALESCE(r.returnDate, GREATEST(r.dueDate, CURRENT_DATE)),"
+            + " CAST(:endDate AS LocalDate) + 1 DAY) - GREATEST(r.rentDate, :startDate)) BY DAY)"
+            + " FROM RentalModel r WHERE r.game.id = g.id AND r.rentDate <= :endDate"
+            + " AND COALESCE(r.returnDate, GREATEST(r.dueDate, CURRENT_DATE)) > :startDate), 0) AS Double)"
+            + " / (g.stockTotal * :days))"
+            + " FROM GameModel g LEFT JOIN DailyGameStatsModel s"
+            + " ON s.gameId = g.id AND s.statsDate BETWEEN :startDate AND :endDate"
+            + " GROUP BY g.id, g.name, g.stockTotal ORDER BY g.id")
+    List<GameUtilizationDTO> findGameUtilization(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("days") long days);
+}
@@ -1,11 +1,96 @@
 package com.boardcamp.api.repositories;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.boardcamp.api.configs.CacheConfig;
+import com.boardcamp.api.dtos.GameAvailabilityDTO;
 import com.boardcamp.api.models.GameModel;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface GameRepository extends JpaRepository<GameModel, Long> {
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     boolean existsByName(String name);
+
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.GAMES, key = "#id", unless = "#result == null")
+    Optional<GameModel> findById(Long id);
+
+    @Override
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.GAME_CATALOG, key = "'all'")
+    List<GameModel> findAll();
+
+    @Override
+    @Caching(evict = @CacheEvict(cacheNames = { CacheConfig.GAME_CATALOG,
+            CacheConfig.GAME_CATALOG_SNAPSHOT }, allEntries = true),
+            put = @CachePut(cacheNames = CacheConfig.GAMES, key = "#result.id"))
+    <S extends GameModel> S save(S game);
+
+    @Override
+    @CacheEvict(cacheNames = { CacheConfig.GAMES, CacheConfig.GAME_CATALOG,
+            CacheConfig.GAME_CATALOG_SNAPSHOT }, allEntries = true)
+    void deleteAll();
+
+    @Query("SELECT new com.boardcamp.api.dtos.GameAvailabilityDTO(g.id, g.stockTotal, g.stockTotal - g.rentedCount)"
+            + " FROM GameModel g ORDER BY g.id")
+    List<GameAvailabilityDTO> findAvailability();
+
+    // Counter updates bypass the cached catalog and declare their own query space rather than games, so renting
+    // and returning leave both the catalog and the cached name checks valid.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_counters"))
+    @Query(value = "UPDATE games SET rented_count = rented_count + 1"
+            + " WHERE id = :id AND rented_count < stock_total", nativeQuery = true)
+    int reserveCopy(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_counters"))
+    @Query(value = "UPDATE games SET rented_count = rented_count + :copies"
+            + " WHERE id = :id AND rented_count + :copies <= stock_total", nativeQuery = true)
+    int reserveCopies(@Param("id") Long id, @Param("copies") int copies);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_counters"))
+    @Query(value = "UPDATE games SET rented_count = rented_count - 1"
+            + " WHERE id = :id AND rented_count > 0", nativeQuery = true)
+    int releaseCopy(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "game_counters"))
+    @Query(value = "UPDATE games SET rented_count = rented_count - :copies"
+            + " WHERE id = :id AND rented_count >= :copies", nativeQuery = true)
+    int releaseCopies(@Param("id") Long id, @Param("copies") int copies);
+
+    @Query("SELECT g FROM GameModel g"
+            + " WHERE g.changeXid >= :xid AND g.changeXid < :horizon"
+            + " AND (g.changeXid > :xid OR g.changeVersion > :version)"
+            + " ORDER BY g.changeXid, g.changeVersion")
+    List<GameModel> findChangedAfter(
+            @Param("xid") long xid,
+            @Param("version") long version,
+            @Param("horizon") long horizon,
+            Pageable pageable);
 }
@@ -0,0 +1,59 @@
+package com.boardcamp.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.models.IdempotencyKeyModel;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyModel, String> {
+    // Read-write on purpose: the key was just claimed by another node and may not have reached the replica yet.
+    @Override
+    @Transactional
+    Optional<IdempotencyKeyModel> findById(String key);
+
+    // An unfinished claim older than claimedBefore was left by a node that died mid-request and is taken over.
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "idempotency_keys"))
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, created_at)"
+            + " VALUES (:key, :requestHash, CURRENT_TIMESTAMP)"
+            + " ON CONFLICT (idempotency_key) DO UPDATE"
+            + " SET request_hash = EXCLUDED.request_hash, created_at = EXCLUDED.created_at"
+            + " WHERE idempotency_keys.response_status IS NULL"
+            + " AND idempotency_keys.created_at < :claimedBefore", nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash,
+            @Param("claimedBefore") LocalDateTime claimedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKeyModel k SET k.responseStatus = :status,"
+            + " k.responseContentType = :contentType, k.responseBody = :body"
+            + " WHERE k.idempotencyKey = :key")
+    int complete(
+            @Param("key") String key,
+            @Param("status") Integer status,
+            @Param("contentType") String contentType,
+            @Param("body") byte[] body);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyModel k WHERE k.idempotencyKey = :key AND k.responseStatus IS NULL")
+    int release(@Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyModel k WHERE k.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") LocalDateTime createdBefore);
+}
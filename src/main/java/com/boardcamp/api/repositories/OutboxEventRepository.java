@@ -0,0 +1,21 @@
+package com.boardcamp.api.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.boardcamp.api.models.OutboxEventModel;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEventModel, Long> {
+    // Ids come from per-node blocks and locked rows are skipped, so neither orders a rental's events. An event is
+    // held back while an earlier one of its rental is still pending, even if another drain has it locked.
+    @Query(value = "SELECT * FROM outbox_events e"
+            + " WHERE NOT EXISTS (SELECT 1 FROM outbox_events p"
+            + " WHERE p.rental_id = e.rental_id AND p.rental_sequence < e.rental_sequence)"
+            + " ORDER BY e.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventModel> findBatchForUpdate(@Param("limit") int limit);
+}
@@ -1,14 +1,154 @@
 package com.boardcamp.api.repositories;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.boardcamp.api.dtos.CustomerRentalSummaryDTO;
+import com.boardcamp.api.dtos.OverdueRentalDTO;
 import com.boardcamp.api.models.RentalModel;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface RentalRepository extends JpaRepository<RentalModel, Long> {
+public interface RentalRepository
+        extends JpaRepository<RentalModel, Long>, JpaSpecificationExecutor<RentalModel> {
+    @Override
+    @EntityGraph(attributePaths = { "customer", "game" })
+    Optional<RentalModel> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = { "customer", "game" })
+    List<RentalModel> findAll();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = { "customer", "game" })
+    @Query("SELECT r FROM RentalModel r WHERE r.id = :id")
+    Optional<RentalModel> findForUpdateById(@Param("id") Long id);
+
+    // Rows are locked in the ORDER BY order, which keeps overlapping batch returns from deadlocking.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @EntityGraph(attributePaths = { "customer", "game" })
+    @Query("SELECT r FROM RentalModel r WHERE r.id IN :ids ORDER BY r.id")
+    List<RentalModel> findAllForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query(value = "SELECT COUNT(*) FROM rentals r WHERE r.game_id = :gameId AND r.return_date IS NULL", nativeQuery = true)
     Long countByGameIdAndReturnDateNull(@Param("gameId") Long gameId);
+
+    // Only the filters that were given reach the WHERE clause, so each combination is planned against
+    // the index that fits it instead of around "IS NULL OR" branches.
+    default List<RentalModel> findPage(Long after, Long customerId, Long gameId, Boolean returned,
+            LocalDate lateOn, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        Specification<RentalModel> specification = Specification.where(null);
+        if (after != null) {
+            specification = specification.and((rental, query, builder) -> builder.greaterThan(
+                    rental.get("id"), after));
+        }
+        if (customerId != null) {
+            specification = specification.and((rental, query, builder) -> builder.equal(
+                    rental.get("customer").get("id"), customerId));
+        }
+        if (gameId != null) {
+            specification = specification.and((rental, query, builder) -> builder.equal(
+                    rental.get("game").get("id"), gameId));
+        }
+        if (returned != null) {
+            specification = specification.and((rental, query, builder) -> returned
+                    ? builder.isNotNull(rental.get("returnDate"))
+                    : builder.isNull(rental.get("returnDate")));
+        }
+        if (lateOn != null) {
+            specification = specification.and((rental, query, builder) -> builder.lessThan(
+                    rental.get("dueDate"), lateOn));
+        }
+        if (startDate != null) {
+            specification = specification.and((rental, query, builder) -> builder.greaterThanOrEqualTo(
+                    rental.get("rentDate"), startDate));
+        }
+        if (endDate != null) {
+            specification = specification.and((rental, query, builder) -> builder.lessThanOrEqualTo(
+                    rental.get("rentDate"), endDate));
+        }
+
+        return findBy(specification, query -> query.project("customer", "game")
+                .sortBy(Sort.by("id"))
+                .limit(pageable.getPageSize())
+                .all());
+    }
+
+    @Query("SELECT new com.boardcamp.api.dtos.CustomerRentalSummaryDTO("
+            + " COUNT(r),"
+            + " COALESCE(SUM(CASE WHEN r.returnDate IS NULL THEN 1 ELSE 0 END), 0),"
+            + " COALESCE(SUM(CASE WHEN r.returnDate IS NULL AND r.dueDate < :today THEN 1 ELSE 0 END), 0),"
+            + " COALESCE(SUM(r.originalPrice + r.delayFee), 0))"
+            + " FROM RentalModel r WHERE r.customer.id = :customerId")
+    CustomerRentalSummaryDTO summarizeByCustomerId(
+            @Param("customerId") Long customerId,
+            @Param("today") LocalDate today);
+
+    // A first scan has no lower bound, so it runs its own query, like findPage leaves out missing filters.
+    default List<OverdueRentalDTO> findOverdue(LocalDate from, LocalDate until, Pageable pageable) {
+        return from == null
+                ? findOverdueBefore(until, pageable)
+                : findOverdueBetween(from, until, pageable);
+    }
+
+    @Query("SELECT new com.boardcamp.api.dtos.OverdueRentalDTO("
+            + " r.id, r.customer.id, r.game.id, r.dueDate, r.game.pricePerDay)"
+            + " FROM RentalModel r WHERE r.returnDate IS NULL AND r.dueDate < :until ORDER BY r.id")
+    List<OverdueRentalDTO> findOverdueBefore(@Param("until") LocalDate until, Pageable pageable);
+
+    @Query("SELECT new com.boardcamp.api.dtos.OverdueRentalDTO("
+            + " r.id, r.customer.id, r.game.id, r.dueDate, r.game.pricePerDay)"
+            + " FROM RentalModel r WHERE r.returnDate IS NULL AND r.dueDate >= :from AND r.dueDate < :until"
+            + " ORDER BY r.id")
+    List<OverdueRentalDTO> findOverdueBetween(
+            @Param("from") LocalDate from,
+            @Param("until") LocalDate until,
+            Pageable pageable);
+
+    @Query("SELECT new com.boardcamp.api.dtos.OverdueRentalDTO("
+            + " r.id, r.customer.id, r.game.id, r.dueDate, r.game.pricePerDay)"
+            + " FROM RentalModel r WHERE r.id > :after AND r.returnDate IS NULL AND r.dueDate < :until"
+            + " ORDER BY r.id")
+    List<OverdueRentalDTO> findOverdueAfter(
+            @Param("after") long after,
+            @Param("until") LocalDate until,
+            Pageable pageable);
+
+    @Query("SELECT r.id FROM RentalModel r WHERE r.id IN :ids AND r.returnDate IS NULL")
+    List<Long> findOpenIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM RentalModel r LEFT JOIN FETCH r.customer LEFT JOIN FETCH r.game ORDER BY r.id")
+    Stream<RentalModel> streamAll();
+
+    @Query("SELECT r FROM RentalModel r LEFT JOIN FETCH r.customer LEFT JOIN FETCH r.game"
+            + " WHERE r.changeXid >= :xid AND r.changeXid < :horizon"
+            + " AND (r.changeXid > :xid OR r.changeVersion > :version)"
+            + " ORDER BY r.changeXid, r.changeVersion")
+    List<RentalModel> findChangedAfter(
+            @Param("xid") long xid,
+            @Param("version") long version,
+            @Param("horizon") long horizon,
+            Pageable pageable);
 }
@@ -0,0 +1,64 @@
+package com.boardcamp.api.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.models.WaitlistEntryModel;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntryModel, Long> {
+    @EntityGraph(attributePaths = { "customer", "game" })
+    List<WaitlistEntryModel> findByGameIdOrderById(Long gameId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "waitlist_entries"))
+    @Query(value = "UPDATE waitlist_entries SET hold_expires_at = :expiresAt"
+            + " WHERE id IN (SELECT id FROM waitlist_entries"
+            + " WHERE game_id = :gameId AND hold_expires_at IS NULL"
+            + " ORDER BY id LIMIT :copies FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int holdNext(
+            @Param("gameId") Long gameId,
+            @Param("copies") int copies,
+            @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntryModel w WHERE w.customer.id = :customerId AND w.game.id = :gameId"
+            + " AND w.holdExpiresAt > :now")
+    int deleteHold(
+            @Param("customerId") Long customerId,
+            @Param("gameId") Long gameId,
+            @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT customer_id FROM waitlist_entries"
+            + " WHERE game_id = :gameId AND customer_id IN :customerIds AND hold_expires_at > :now"
+            + " FOR UPDATE", nativeQuery = true)
+    List<Long> findHoldersForUpdate(
+            @Param("gameId") Long gameId,
+            @Param("customerIds") Collection<Long> customerIds,
+            @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM WaitlistEntryModel w WHERE w.game.id = :gameId AND w.customer.id IN :customerIds"
+            + " AND w.holdExpiresAt IS NOT NULL")
+    int deleteHolds(@Param("gameId") Long gameId, @Param("customerIds") Collection<Long> customerIds);
+
+    @Query(value = "SELECT * FROM waitlist_entries WHERE hold_expires_at <= :now"
+            + " ORDER BY id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<WaitlistEntryModel> findExpiredHoldsForUpdate(@Param("now") LocalDateTime now);
+}
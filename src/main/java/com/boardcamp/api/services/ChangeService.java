@@ -0,0 +1,123 @@
+package com.boardcamp.api.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.dtos.ChangesDTO;
+import com.boardcamp.api.dtos.RentalEventDTO;
+import com.boardcamp.api.exceptions.InvalidChangeTokenException;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class ChangeService {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Transactions older than the oldest one still running have all committed or aborted,
+    // so rows stamped below this xid can no longer appear behind a token handed out now.
+    private static final String HORIZON_QUERY =
+            "SELECT CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint)";
+
+    private final GameRepository gameRepository;
+    private final CustomerRepository customerRepository;
+    private final RentalRepository rentalRepository;
+    private final EntityManager entityManager;
+
+    ChangeService(GameRepository gameRepository, CustomerRepository customerRepository,
+            RentalRepository rentalRepository, EntityManager entityManager) {
+        this.gameRepository = gameRepository;
+        this.customerRepository = customerRepository;
+        this.rentalRepository = rentalRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public ChangesDTO findChanges(String since, Integer limit) {
+        ChangeToken token = since == null ? ChangeToken.START : ChangeToken.parse(since);
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        long horizon = ((Number) entityManager.createNativeQuery(HORIZON_QUERY).getSingleResult()).longValue();
+        Pageable page = PageRequest.of(0, pageSize + 1);
+
+        List<Change> changes = new ArrayList<>();
+        for (GameModel game : gameRepository.findChangedAfter(token.xid(), token.version(), horizon, page)) {
+            changes.add(new Change(game.getChangeXid(), game.getChangeVersion(), game));
+        }
+        for (CustomerModel customer : customerRepository.findChangedAfter(
+                token.xid(), token.version(), horizon, page)) {
+            changes.add(new Change(customer.getChangeXid(), customer.getChangeVersion(), customer));
+        }
+        for (RentalModel rental : rentalRepository.findChangedAfter(token.xid(), token.version(), horizon, page)) {
+            changes.add(new Change(rental.getChangeXid(), rental.getChangeVersion(), rental));
+        }
+        changes.sort(Comparator.comparingLong(Change::xid).thenComparingLong(Change::version));
+
+        boolean hasMore = changes.size() > pageSize;
+        List<Change> returned = hasMore ? changes.subList(0, pageSize) : changes;
+
+        List<GameModel> games = new ArrayList<>();
+        List<CustomerModel> customers = new ArrayList<>();
+        List<RentalEventDTO> rentals = new ArrayList<>();
+        for (Change change : returned) {
+            if (change.row() instanceof GameModel game) {
+                games.add(game);
+            } else if (change.row() instanceof CustomerModel customer) {
+                customers.add(customer);
+            } else {
+                rentals.add(new RentalEventDTO((RentalModel) change.row()));
+            }
+        }
+
+        ChangeToken next;
+        if (hasMore) {
+            Change last = returned.get(returned.size() - 1);
+            next = new ChangeToken(last.xid(), last.version());
+        } else {
+            next = token.xid() >= horizon ? token : new ChangeToken(horizon, 0);
+        }
+
+        return new ChangesDTO(games, customers, rentals, next.toString(), hasMore);
+    }
+
+    private record Change(long xid, long version, Object row) {
+    }
+
+    record ChangeToken(long xid, long version) {
+        static final ChangeToken START = new ChangeToken(0, 0);
+
+        static ChangeToken parse(String value) {
+            int separator = value.indexOf('.');
+            if (separator < 0) {
+                throw new InvalidChangeTokenException("Invalid change token");
+            }
+
+            try {
+                ChangeToken token = new ChangeToken(Long.parseLong(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+                if (token.xid() < 0 || token.version() < 0) {
+                    throw new InvalidChangeTokenException("Invalid change token");
+                }
+                return token;
+            } catch (NumberFormatException exception) {
+                throw new InvalidChangeTokenException("Invalid change token");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return xid + "." + version;
+        }
+    }
+}
@@ -1,31 +1,84 @@
 package com.boardcamp.api.services;
 
+import java.util.List;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.boardcamp.api.configs.MetricsConfig;
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.CustomerFilterDTO;
+import com.boardcamp.api.dtos.CustomerPageDTO;
 import com.boardcamp.api.exceptions.CustomerCPFConflict;
 import com.boardcamp.api.exceptions.CustomerNotFoundException;
 import com.boardcamp.api.models.CustomerModel;
 import com.boardcamp.api.repositories.CustomerRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
 public class CustomerService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final CustomerRepository customerRepository;
 
     CustomerService(CustomerRepository customerRepository) {
         this.customerRepository = customerRepository;
     }
 
+    @Transactional(readOnly = true)
     public CustomerModel findOne(Long id) {
         return customerRepository.findById(id).orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
     }
 
-    public CustomerModel save(CustomerDTO dto) {
-        if (customerRepository.existsByCpf(dto.getCpf())) {
-            throw new CustomerCPFConflict("Customer is already registered");
+    @Transactional(readOnly = true)
+    public CustomerPageDTO findPage(CustomerFilterDTO filter) {
+        int limit = filter.getLimit() == null ? DEFAULT_PAGE_SIZE : Math.min(filter.getLimit(), MAX_PAGE_SIZE);
+        String name = filter.getName() == null ? null : filter.getName().trim().toLowerCase();
+
+        List<CustomerModel> customers = customerRepository.findPage(
+                filter.getAfter(),
+                prefixPattern(name),
+                prefixPattern(filter.getCpfPrefix()),
+                PageRequest.ofSize(limit + 1));
+
+        Long nextCursor = null;
+        if (customers.size() > limit) {
+            customers = customers.subList(0, limit);
+            nextCursor = customers.get(limit - 1).getId();
         }
 
+        return new CustomerPageDTO(customers, nextCursor);
+    }
+
+    public CustomerModel findByCpf(String cpf) {
+        return customerRepository.findByCpf(cpf).orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
+    }
+
+    @Timed(value = MetricsConfig.CUSTOMERS_SAVE, histogram = true)
+    public CustomerModel save(CustomerDTO dto) {
         CustomerModel customer = new CustomerModel(dto);
-        return customerRepository.save(customer);
+
+        try {
+            return customerRepository.saveAndFlush(customer);
+        } catch (DataIntegrityViolationException exception) {
+            if (exception.getCause() instanceof ConstraintViolationException violation
+                    && CustomerModel.CPF_CONSTRAINT.equals(violation.getConstraintName())) {
+                throw new CustomerCPFConflict("Customer is already registered");
+            }
+            throw exception;
+        }
+    }
+
+    private static String prefixPattern(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
     }
 }
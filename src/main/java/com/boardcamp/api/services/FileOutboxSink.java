@@ -0,0 +1,52 @@
+package com.boardcamp.api.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.boardcamp.api.models.OutboxEventModel;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+    private final Path path;
+    private final ObjectWriter eventWriter;
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    FileOutboxSink(@Value("${outbox.file}") Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.eventWriter = objectMapper.writerFor(OutboxEventModel.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    public void publish(List<OutboxEventModel> events) throws IOException {
+        appendLock.lock();
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+
+            try (OutputStream output = Files.newOutputStream(path, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND)) {
+                for (OutboxEventModel event : events) {
+                    eventWriter.writeValue(output, event);
+                    output.write('\n');
+                }
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+}
@@ -1,26 +1,58 @@
 package com.boardcamp.api.services;
 
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import com.boardcamp.api.configs.CacheConfig;
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.GameAvailabilityDTO;
+import com.boardcamp.api.dtos.GameCatalogDTO;
 import com.boardcamp.api.dtos.GameDTO;
 import com.boardcamp.api.exceptions.GameConflictException;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.repositories.GameRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
 public class GameService {
     private final GameRepository gameRepository;
+    private final ObjectMapper objectMapper;
 
-    GameService(GameRepository gameRepository) {
+    GameService(GameRepository gameRepository, ObjectMapper objectMapper) {
         this.gameRepository = gameRepository;
+        this.objectMapper = objectMapper;
     }
 
+    @Timed(value = MetricsConfig.GAMES_FIND_ALL, histogram = true)
     public List<GameModel> findAll() {
         return gameRepository.findAll();
     }
 
+    @Timed(value = MetricsConfig.GAMES_CATALOG, histogram = true)
+    @Cacheable(cacheNames = CacheConfig.GAME_CATALOG_SNAPSHOT, key = "'all'")
+    public GameCatalogDTO findCatalog() {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(findAll());
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            return new GameCatalogDTO(body, etag);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameAvailabilityDTO> findAvailability() {
+        return gameRepository.findAvailability();
+    }
+
     public GameModel save(GameDTO dto) {
         if (gameRepository.existsByName(dto.getName())) {
             throw new GameConflictException("Game already exists.");
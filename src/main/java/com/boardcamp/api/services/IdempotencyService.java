@@ -0,0 +1,114 @@
+package com.boardcamp.api.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.boardcamp.api.configs.CacheConfig;
+import com.boardcamp.api.exceptions.IdempotencyKeyConflictException;
+import com.boardcamp.api.exceptions.IdempotencyKeyMismatchException;
+import com.boardcamp.api.models.IdempotencyKeyModel;
+import com.boardcamp.api.repositories.IdempotencyKeyRepository;
+
+@Service
+public class IdempotencyService {
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Cache idempotencyKeys;
+    // Claims still being processed are kept apart from the bounded response cache, so evicting completed
+    // responses can never drop a live claim and let a retry run the request twice.
+    private final Map<String, IdempotencyKeyModel> inFlightClaims = new ConcurrentHashMap<>();
+    private final boolean persistent;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+
+    IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository, CacheManager cacheManager,
+            @Value("${idempotency.persistent}") boolean persistent,
+            @Value("${idempotency.ttl}") Duration ttl,
+            @Value("${idempotency.claim-timeout}") Duration claimTimeout) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.idempotencyKeys = cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS);
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.claimTimeout = claimTimeout;
+    }
+
+    public IdempotencyKeyModel claim(String key, String requestHash) {
+        IdempotencyKeyModel completed = idempotencyKeys.get(key, IdempotencyKeyModel.class);
+        if (completed != null) {
+            return replay(completed, requestHash);
+        }
+
+        IdempotencyKeyModel claim = new IdempotencyKeyModel(key, requestHash);
+        LocalDateTime claimedBefore = claim.getCreatedAt().minus(claimTimeout);
+        IdempotencyKeyModel inFlight = inFlightClaims.compute(key,
+                (k, existing) -> existing == null || existing.getCreatedAt().isBefore(claimedBefore) ? claim : existing);
+        if (inFlight != claim) {
+            return replay(inFlight, requestHash);
+        }
+
+        completed = idempotencyKeys.get(key, IdempotencyKeyModel.class);
+        if (completed != null) {
+            inFlightClaims.remove(key, claim);
+            return replay(completed, requestHash);
+        }
+
+        if (persistent && idempotencyKeyRepository.claim(key, requestHash, claimedBefore) == 0) {
+            inFlightClaims.remove(key, claim);
+
+            IdempotencyKeyModel stored = idempotencyKeyRepository.findById(key)
+                    .orElseThrow(() -> new IdempotencyKeyConflictException(
+                            "A request with this Idempotency-Key is still being processed"));
+            if (stored.isCompleted()) {
+                idempotencyKeys.put(key, stored);
+            }
+            return replay(stored, requestHash);
+        }
+
+        return null;
+    }
+
+    public void complete(IdempotencyKeyModel response) {
+        idempotencyKeys.put(response.getIdempotencyKey(), response);
+        inFlightClaims.remove(response.getIdempotencyKey());
+
+        if (persistent) {
+            idempotencyKeyRepository.complete(response.getIdempotencyKey(), response.getResponseStatus(),
+                    response.getResponseContentType(), response.getResponseBody());
+        }
+    }
+
+    public void release(String key) {
+        inFlightClaims.remove(key);
+
+        if (persistent) {
+            idempotencyKeyRepository.release(key);
+        }
+    }
+
+    @Scheduled(cron = "${idempotency.purge.cron}")
+    public void purgeExpired() {
+        LocalDateTime claimedBefore = LocalDateTime.now().minus(claimTimeout);
+        inFlightClaims.values().removeIf(claim -> claim.getCreatedAt().isBefore(claimedBefore));
+
+        if (persistent) {
+            idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        }
+    }
+
+    private IdempotencyKeyModel replay(IdempotencyKeyModel stored, String requestHash) {
+        if (!stored.getRequestHash().equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException("This Idempotency-Key was already used with a different request");
+        }
+        if (!stored.isCompleted()) {
+            throw new IdempotencyKeyConflictException("A request with this Idempotency-Key is still being processed");
+        }
+        return stored;
+    }
+}
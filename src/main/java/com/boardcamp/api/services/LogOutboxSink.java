@@ -0,0 +1,32 @@
+package com.boardcamp.api.services;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.boardcamp.api.models.OutboxEventModel;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "log", matchIfMissing = true)
+public class LogOutboxSink implements OutboxSink {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    private final ObjectWriter eventWriter;
+
+    LogOutboxSink(ObjectMapper objectMapper) {
+        this.eventWriter = objectMapper.writerFor(OutboxEventModel.class);
+    }
+
+    @Override
+    public void publish(List<OutboxEventModel> events) throws IOException {
+        for (OutboxEventModel event : events) {
+            LOGGER.info(eventWriter.writeValueAsString(event));
+        }
+    }
+}
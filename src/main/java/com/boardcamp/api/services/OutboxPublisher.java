@@ -0,0 +1,22 @@
+package com.boardcamp.api.services;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class OutboxPublisher {
+    private final OutboxService outboxService;
+
+    OutboxPublisher(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.publish-interval}")
+    public void drain() {
+        // A short batch may have held back events of rentals it published, so keep going until one comes back empty.
+        int published;
+        do {
+            published = outboxService.publishBatch();
+        } while (published > 0);
+    }
+}
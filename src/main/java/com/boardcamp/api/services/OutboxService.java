@@ -0,0 +1,70 @@
+package com.boardcamp.api.services;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.RentalEventDTO;
+import com.boardcamp.api.dtos.RentalEventType;
+import com.boardcamp.api.models.OutboxEventModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import io.micrometer.core.annotation.Timed;
+
+@Service
+public class OutboxService {
+    public static final int PUBLISH_BATCH_SIZE = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectWriter payloadWriter;
+
+    OutboxService(OutboxEventRepository outboxEventRepository, OutboxSink outboxSink, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxSink = outboxSink;
+        this.payloadWriter = objectMapper.writerFor(RentalEventDTO.class);
+    }
+
+    public void record(RentalEventType eventType, RentalModel rental) {
+        outboxEventRepository.save(toEvent(eventType, rental));
+    }
+
+    public void recordAll(RentalEventType eventType, Collection<RentalModel> rentals) {
+        outboxEventRepository.saveAll(rentals.stream().map(rental -> toEvent(eventType, rental)).toList());
+    }
+
+    @Timed(value = MetricsConfig.OUTBOX_PUBLISH, histogram = true)
+    @Transactional
+    public int publishBatch() {
+        List<OutboxEventModel> events = outboxEventRepository.findBatchForUpdate(PUBLISH_BATCH_SIZE);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            outboxSink.publish(events);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        outboxEventRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+
+    private OutboxEventModel toEvent(RentalEventType eventType, RentalModel rental) {
+        try {
+            return new OutboxEventModel(eventType, rental.getId(),
+                    payloadWriter.writeValueAsString(new RentalEventDTO(rental)));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
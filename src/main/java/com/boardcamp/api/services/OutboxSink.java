@@ -0,0 +1,10 @@
+package com.boardcamp.api.services;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.boardcamp.api.models.OutboxEventModel;
+
+public interface OutboxSink {
+    void publish(List<OutboxEventModel> events) throws IOException;
+}
@@ -0,0 +1,147 @@
+package com.boardcamp.api.services;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.OverdueRentalDTO;
+import com.boardcamp.api.dtos.OverdueRentalPageDTO;
+import com.boardcamp.api.repositories.RentalRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Service
+public class OverdueRentalService {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_PROJECTED_RENTALS = 100_000;
+
+    private final RentalRepository rentalRepository;
+    private final NavigableMap<Long, OverdueRentalDTO> overdueRentals = new ConcurrentSkipListMap<>();
+    private final ReentrantLock scanLock = new ReentrantLock();
+    // Timed by hand because rebuild() calls refresh() directly, which @Timed would not see.
+    private final Timer scanTimer;
+    private volatile LocalDate scannedUntil;
+    // The projection keeps the lowest ids only; overdue rentals past this one are paged from the database.
+    private volatile long projectedThrough = Long.MAX_VALUE;
+
+    OverdueRentalService(RentalRepository rentalRepository, MeterRegistry meterRegistry) {
+        this.rentalRepository = rentalRepository;
+        this.scanTimer = Timer.builder(MetricsConfig.RENTALS_OVERDUE_SCAN)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        scanLock.lock();
+        try {
+            scannedUntil = null;
+            overdueRentals.clear();
+            projectedThrough = Long.MAX_VALUE;
+            refresh();
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    @Scheduled(cron = "${rentals.overdue.cron}")
+    public void refresh() {
+        scanLock.lock();
+        try {
+            LocalDate today = LocalDate.now();
+            if (scannedUntil != null && !today.isAfter(scannedUntil)) {
+                return;
+            }
+
+            scanTimer.record(() -> {
+                List<OverdueRentalDTO> crossed = rentalRepository.findOverdue(scannedUntil, today,
+                        PageRequest.ofSize(MAX_PROJECTED_RENTALS));
+                for (OverdueRentalDTO rental : crossed) {
+                    if (rental.getRentalId() <= projectedThrough) {
+                        overdueRentals.put(rental.getRentalId(), rental);
+                    }
+                }
+                if (crossed.size() == MAX_PROJECTED_RENTALS) {
+                    projectedThrough = Math.min(projectedThrough, crossed.get(crossed.size() - 1).getRentalId());
+                    overdueRentals.tailMap(projectedThrough, false).clear();
+                }
+                for (int excess = overdueRentals.size() - MAX_PROJECTED_RENTALS; excess > 0; excess--) {
+                    overdueRentals.pollLastEntry();
+                    projectedThrough = overdueRentals.lastKey();
+                }
+            });
+            scannedUntil = today;
+        } finally {
+            scanLock.unlock();
+        }
+    }
+
+    // Pages never wait for a scan: a stale projection is served until the scheduled refresh catches up, and
+    // before the first scan finishes everything is paged from the database.
+    public OverdueRentalPageDTO findPage(Long after, Integer limit) {
+        LocalDate today = LocalDate.now();
+        long through = scannedUntil == null ? 0 : projectedThrough;
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        NavigableMap<Long, OverdueRentalDTO> projected = overdueRentals.headMap(through, true);
+        NavigableMap<Long, OverdueRentalDTO> candidates = after == null
+                ? projected
+                : projected.tailMap(after, false);
+
+        List<OverdueRentalDTO> rentals = new ArrayList<>();
+        while (rentals.size() < pageSize && !candidates.isEmpty()) {
+            List<OverdueRentalDTO> batch = candidates.values().stream()
+                    .limit(pageSize - rentals.size())
+                    .toList();
+            Set<Long> openIds = new HashSet<>(rentalRepository.findOpenIdsByIdIn(
+                    batch.stream().map(OverdueRentalDTO::getRentalId).toList()));
+
+            for (OverdueRentalDTO rental : batch) {
+                if (openIds.contains(rental.getRentalId())) {
+                    rentals.add(project(rental, today));
+                } else {
+                    overdueRentals.remove(rental.getRentalId());
+                }
+            }
+            candidates = projected.tailMap(batch.get(batch.size() - 1).getRentalId(), false);
+        }
+
+        boolean hasMore = !candidates.isEmpty();
+        if (through != Long.MAX_VALUE && !hasMore) {
+            int missing = pageSize - rentals.size();
+            List<OverdueRentalDTO> rest = rentalRepository.findOverdueAfter(
+                    after == null ? through : Math.max(after, through), today, PageRequest.ofSize(missing + 1));
+            rest.stream().limit(missing).forEach(rental -> rentals.add(project(rental, today)));
+            hasMore = rest.size() > missing;
+        }
+
+        Long nextCursor = null;
+        if (rentals.size() == pageSize && hasMore) {
+            nextCursor = rentals.get(pageSize - 1).getRentalId();
+        }
+
+        return new OverdueRentalPageDTO(rentals, nextCursor);
+    }
+
+    private OverdueRentalDTO project(OverdueRentalDTO rental, LocalDate today) {
+        long daysLate = ChronoUnit.DAYS.between(rental.getDueDate(), today);
+
+        return new OverdueRentalDTO(rental.getRentalId(), rental.getCustomerId(), rental.getGameId(),
+                rental.getDueDate(), rental.getPricePerDay(), daysLate, daysLate * rental.getPricePerDay());
+    }
+}
@@ -0,0 +1,54 @@
+package com.boardcamp.api.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+
+@Service
+public class RentalExportService {
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final RentalRepository rentalRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter rentalWriter;
+
+    RentalExportService(RentalRepository rentalRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.rentalRepository = rentalRepository;
+        this.entityManager = entityManager;
+        this.rentalWriter = objectMapper.writerFor(RentalModel.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportTo(OutputStream output) throws IOException {
+        try (Stream<RentalModel> rentals = rentalRepository.streamAll()) {
+            Iterator<RentalModel> iterator = rentals.iterator();
+            int written = 0;
+
+            while (iterator.hasNext()) {
+                RentalModel rental = iterator.next();
+                rentalWriter.writeValue(output, rental);
+                output.write('\n');
+
+                entityManager.detach(rental);
+                if (++written % FLUSH_INTERVAL == 0) {
+                    entityManager.clear();
+                    output.flush();
+                }
+            }
+        }
+        output.flush();
+    }
+}
@@ -2,11 +2,33 @@ package com.boardcamp.api.services;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.CustomerRentalHistoryDTO;
+import com.boardcamp.api.dtos.CustomerRentalSummaryDTO;
+import com.boardcamp.api.dtos.RentalBatchResultDTO;
 import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalEventType;
+import com.boardcamp.api.dtos.RentalFilterDTO;
+import com.boardcamp.api.dtos.RentalPageDTO;
+import com.boardcamp.api.dtos.RentalReturnResultDTO;
+import com.boardcamp.api.dtos.RentalStatus;
 import com.boardcamp.api.exceptions.CustomerNotFoundException;
 import com.boardcamp.api.exceptions.GameNotFoundException;
 import com.boardcamp.api.exceptions.RentalAlreadyReturnedException;
@@ -16,26 +38,82 @@ import com.boardcamp.api.models.CustomerModel;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.models.RentalModel;
 import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.DailyGameStatsRepository;
 import com.boardcamp.api.repositories.GameRepository;
 import com.boardcamp.api.repositories.RentalRepository;
 
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Service
 public class RentalService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RentalService.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int MAX_BATCH_SIZE = 100;
+
     private final RentalRepository rentalRepository;
     private final CustomerRepository customerRepository;
     private final GameRepository gameRepository;
+    private final DailyGameStatsRepository dailyGameStatsRepository;
+    private final WaitlistService waitlistService;
+    private final OutboxService outboxService;
+    private final MeterRegistry meterRegistry;
 
     RentalService(RentalRepository rentalRepository, CustomerRepository customerRepository,
-            GameRepository gameRepository) {
+            GameRepository gameRepository, DailyGameStatsRepository dailyGameStatsRepository,
+            WaitlistService waitlistService, OutboxService outboxService, MeterRegistry meterRegistry) {
         this.rentalRepository = rentalRepository;
         this.customerRepository = customerRepository;
         this.gameRepository = gameRepository;
+        this.dailyGameStatsRepository = dailyGameStatsRepository;
+        this.waitlistService = waitlistService;
+        this.outboxService = outboxService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Transactional(readOnly = true)
+    public RentalPageDTO findPage(RentalFilterDTO filter) {
+        int limit = filter.getLimit() == null ? DEFAULT_PAGE_SIZE : Math.min(filter.getLimit(), MAX_PAGE_SIZE);
+        RentalStatus status = filter.getStatus();
+
+        Boolean returned = status == null ? null : status == RentalStatus.RETURNED;
+        LocalDate lateOn = status == RentalStatus.LATE ? LocalDate.now() : null;
+
+        List<RentalModel> rentals = rentalRepository.findPage(
+                filter.getAfter(),
+                filter.getCustomerId(),
+                filter.getGameId(),
+                returned,
+                lateOn,
+                filter.getStartDate(),
+                filter.getEndDate(),
+                PageRequest.ofSize(limit + 1));
+
+        Long nextCursor = null;
+        if (rentals.size() > limit) {
+            rentals = rentals.subList(0, limit);
+            nextCursor = rentals.get(limit - 1).getId();
+        }
+
+        return new RentalPageDTO(rentals, nextCursor);
     }
 
-    public List<RentalModel> findAll() {
-        return rentalRepository.findAll();
+    @Transactional(readOnly = true)
+    public CustomerRentalHistoryDTO findCustomerHistory(Long customerId, Long after, Integer limit) {
+        if (!customerRepository.existsById(customerId)) {
+            throw new CustomerNotFoundException("Customer not found");
+        }
+
+        RentalPageDTO page = findPage(new RentalFilterDTO(customerId, null, null, null, null, after, limit));
+        CustomerRentalSummaryDTO summary = rentalRepository.summarizeByCustomerId(customerId, LocalDate.now());
+
+        return new CustomerRentalHistoryDTO(summary, page.getRentals(), page.getNextCursor());
     }
 
+    @Timed(value = MetricsConfig.RENTALS_MAKE, histogram = true)
+    @Transactional
     public RentalModel makeRental(RentalDTO dto) {
         Long gameId = dto.getGameId();
         Long customerId = dto.getCustomerId();
@@ -46,8 +124,7 @@ public class RentalService {
         GameModel game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new GameNotFoundException("Game not found"));
 
-        long gamesRented = rentalRepository.countByGameIdAndReturnDateNull(gameId);
-        if (gamesRented == game.getStockTotal()) {
+        if (!waitlistService.consumeHold(customerId, gameId) && gameRepository.reserveCopy(gameId) == 0) {
             throw new RentalOutOfStockException("Game is out of stock");
         }
 
@@ -56,11 +133,107 @@ public class RentalService {
         rental.setDelayFee(Long.valueOf(0));
         rental.setRentDate(LocalDate.now());
 
-        return rentalRepository.save(rental);
+        dailyGameStatsRepository.recordOpened(gameId, rental.getRentDate(), 1, rental.getDaysRented(),
+                rental.getOriginalPrice());
+        RentalModel savedRental = rentalRepository.save(rental);
+        outboxService.record(RentalEventType.RENTAL_CREATED, savedRental);
+        return savedRental;
     }
 
+    @Transactional
+    public List<RentalBatchResultDTO> makeRentals(List<RentalDTO> dtos) {
+        Set<Long> customerIds = dtos.stream().map(RentalDTO::getCustomerId).collect(Collectors.toSet());
+        Set<Long> gameIds = dtos.stream().map(RentalDTO::getGameId).collect(Collectors.toSet());
+
+        Map<Long, CustomerModel> customers = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(CustomerModel::getId, Function.identity()));
+        Map<Long, GameModel> games = gameRepository.findAllById(gameIds).stream()
+                .collect(Collectors.toMap(GameModel::getId, Function.identity()));
+
+        RentalBatchResultDTO[] results = new RentalBatchResultDTO[dtos.size()];
+        // Games are locked in ascending id order so that overlapping batches cannot deadlock.
+        Map<Long, List<Integer>> itemsByGame = new TreeMap<>();
+
+        for (int index = 0; index < dtos.size(); index++) {
+            RentalDTO dto = dtos.get(index);
+            if (!customers.containsKey(dto.getCustomerId())) {
+                results[index] = new RentalBatchResultDTO(HttpStatus.NOT_FOUND.value(), "Customer not found", null);
+                countRejected(CustomerNotFoundException.class, HttpStatus.NOT_FOUND);
+            } else if (!games.containsKey(dto.getGameId())) {
+                results[index] = new RentalBatchResultDTO(HttpStatus.NOT_FOUND.value(), "Game not found", null);
+                countRejected(GameNotFoundException.class, HttpStatus.NOT_FOUND);
+            } else {
+                itemsByGame.computeIfAbsent(dto.getGameId(), gameId -> new ArrayList<>()).add(index);
+            }
+        }
+
+        List<RentalModel> rentals = new ArrayList<>();
+        LocalDate today = LocalDate.now();
+
+        for (Map.Entry<Long, List<Integer>> entry : itemsByGame.entrySet()) {
+            GameModel game = games.get(entry.getKey());
+            List<Integer> indexes = entry.getValue();
+            Set<Long> holders = waitlistService.lockHolders(game.getId(),
+                    indexes.stream().map(index -> dtos.get(index).getCustomerId()).collect(Collectors.toSet()));
+
+            // Each hold covers one item of its customer, so only the remaining items need copies from stock.
+            Set<Long> unusedHolds = new HashSet<>(holders);
+            List<Integer> rentedIndexes = new ArrayList<>();
+            List<Integer> stockIndexes = new ArrayList<>();
+            for (int index : indexes) {
+                if (unusedHolds.remove(dtos.get(index).getCustomerId())) {
+                    rentedIndexes.add(index);
+                } else {
+                    stockIndexes.add(index);
+                }
+            }
+
+            if (!stockIndexes.isEmpty()) {
+                if (gameRepository.reserveCopies(game.getId(), stockIndexes.size()) == 0) {
+                    for (int index : stockIndexes) {
+                        results[index] = new RentalBatchResultDTO(
+                                HttpStatus.UNPROCESSABLE_ENTITY.value(), "Game is out of stock", null);
+                        countRejected(RentalOutOfStockException.class, HttpStatus.UNPROCESSABLE_ENTITY);
+                    }
+                } else {
+                    rentedIndexes.addAll(stockIndexes);
+                }
+            }
+
+            if (rentedIndexes.isEmpty()) {
+                continue;
+            }
+
+            long daysRented = 0;
+            long originalPrice = 0;
+
+            for (int index : rentedIndexes) {
+                RentalDTO dto = dtos.get(index);
+                RentalModel rental = new RentalModel(dto, customers.get(dto.getCustomerId()), game);
+                rental.setOriginalPrice(game.getPricePerDay() * dto.getDaysRented());
+                rental.setDelayFee(Long.valueOf(0));
+                rental.setRentDate(today);
+
+                daysRented += rental.getDaysRented();
+                originalPrice += rental.getOriginalPrice();
+                rentals.add(rental);
+                results[index] = new RentalBatchResultDTO(HttpStatus.CREATED.value(), null, rental);
+            }
+
+            waitlistService.consumeHolds(game.getId(), holders);
+            dailyGameStatsRepository.recordOpened(game.getId(), today, rentedIndexes.size(), daysRented,
+                    originalPrice);
+        }
+
+        rentalRepository.saveAll(rentals);
+        outboxService.recordAll(RentalEventType.RENTAL_CREATED, rentals);
+        return Arrays.asList(results);
+    }
+
+    @Timed(value = MetricsConfig.RENTALS_FINISH, histogram = true)
+    @Transactional
     public RentalModel finishRental(Long id) {
-        RentalModel rental = rentalRepository.findById(id)
+        RentalModel rental = rentalRepository.findForUpdateById(id)
                 .orElseThrow(() -> new RentalNotFoundException("Rental was not found"));
 
         LocalDate returnDate = rental.getReturnDate();
@@ -68,9 +241,78 @@ public class RentalService {
             throw new RentalAlreadyReturnedException("This rental was already returned");
         }
 
-        int daysRented = rental.getDaysRented();
+        applyReturn(rental, LocalDate.now());
+        if (waitlistService.holdCopies(rental.getGame().getId(), 1) == 0
+                && gameRepository.releaseCopy(rental.getGame().getId()) == 0) {
+            countCounterDrift(rental.getGame().getId(), 1);
+        }
+        dailyGameStatsRepository.recordReturned(rental.getGame().getId(), rental.getReturnDate(), 1,
+                rental.getDelayFee());
+        RentalModel savedRental = rentalRepository.save(rental);
+        outboxService.record(RentalEventType.RENTAL_RETURNED, savedRental);
+        return savedRental;
+    }
+
+    @Transactional
+    public List<RentalReturnResultDTO> finishRentals(List<Long> ids) {
+        Map<Long, RentalModel> rentals = rentalRepository.findAllForUpdateByIdIn(ids).stream()
+                .collect(Collectors.toMap(RentalModel::getId, Function.identity()));
+
+        List<RentalReturnResultDTO> results = new ArrayList<>(ids.size());
+        List<RentalModel> returnedRentals = new ArrayList<>();
+        // Rentals and then games are locked in ascending id order so that overlapping batches cannot deadlock.
+        Map<Long, List<RentalModel>> returnedByGame = new TreeMap<>();
         LocalDate today = LocalDate.now();
 
+        for (Long id : ids) {
+            RentalModel rental = rentals.get(id);
+            if (rental == null) {
+                results.add(new RentalReturnResultDTO(id, HttpStatus.NOT_FOUND.value(), "Rental was not found", null));
+                countRejected(RentalNotFoundException.class, HttpStatus.NOT_FOUND);
+            } else if (rental.getReturnDate() != null) {
+                results.add(new RentalReturnResultDTO(id, HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        "This rental was already returned", null));
+                countRejected(RentalAlreadyReturnedException.class, HttpStatus.UNPROCESSABLE_ENTITY);
+            } else {
+                applyReturn(rental, today);
+                returnedByGame.computeIfAbsent(rental.getGame().getId(), gameId -> new ArrayList<>()).add(rental);
+                returnedRentals.add(rental);
+                results.add(new RentalReturnResultDTO(id, HttpStatus.OK.value(), null, rental));
+            }
+        }
+
+        returnedByGame.forEach((gameId, gameRentals) -> {
+            long delayFee = gameRentals.stream().mapToLong(RentalModel::getDelayFee).sum();
+
+            int held = waitlistService.holdCopies(gameId, gameRentals.size());
+            if (held < gameRentals.size()
+                    && gameRepository.releaseCopies(gameId, gameRentals.size() - held) == 0) {
+                countCounterDrift(gameId, gameRentals.size() - held);
+            }
+            dailyGameStatsRepository.recordReturned(gameId, today, gameRentals.size(), delayFee);
+        });
+        rentalRepository.saveAll(returnedRentals);
+        outboxService.recordAll(RentalEventType.RENTAL_RETURNED, returnedRentals);
+        return results;
+    }
+
+    // Failed batch items are counted like the single-item requests that GlobalExceptionHandler rejects.
+    private void countRejected(Class<? extends RuntimeException> exception, HttpStatus status) {
+        meterRegistry.counter(MetricsConfig.REQUESTS_REJECTED,
+                "exception", exception.getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
+
+    // A release that matches no row means rented_count already fell below the copies being returned. The return
+    // still goes through, but the drift is reported instead of being clamped away.
+    private void countCounterDrift(Long gameId, int copies) {
+        LOGGER.warn("Rented count of game {} is below the {} copies being returned", gameId, copies);
+        meterRegistry.counter(MetricsConfig.GAMES_COUNTER_DRIFT).increment();
+    }
+
+    private void applyReturn(RentalModel rental, LocalDate today) {
+        int daysRented = rental.getDaysRented();
+
         Long daysBetween = ChronoUnit.DAYS.between(rental.getRentDate(), today);
 
         if (daysBetween <= daysRented) {
@@ -81,6 +323,5 @@ public class RentalService {
         }
 
         rental.setReturnDate(today);
-        return rentalRepository.save(rental);
     }
 }
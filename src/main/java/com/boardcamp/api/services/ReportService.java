@@ -0,0 +1,62 @@
+package com.boardcamp.api.services;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.dtos.DailyRevenueDTO;
+import com.boardcamp.api.dtos.GameUtilizationDTO;
+import com.boardcamp.api.dtos.ReportFilterDTO;
+import com.boardcamp.api.exceptions.InvalidReportPeriodException;
+import com.boardcamp.api.repositories.DailyGameStatsRepository;
+
+@Service
+public class ReportService {
+    public static final int DEFAULT_PERIOD_DAYS = 30;
+    public static final int MAX_PERIOD_DAYS = 366;
+
+    private final DailyGameStatsRepository dailyGameStatsRepository;
+
+    ReportService(DailyGameStatsRepository dailyGameStatsRepository) {
+        this.dailyGameStatsRepository = dailyGameStatsRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailyRevenueDTO> findDailyRevenue(ReportFilterDTO filter) {
+        LocalDate endDate = endDate(filter);
+        LocalDate startDate = startDate(filter, endDate);
+
+        return dailyGameStatsRepository.findDailyRevenue(startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GameUtilizationDTO> findGameUtilization(ReportFilterDTO filter) {
+        LocalDate endDate = endDate(filter);
+        LocalDate startDate = startDate(filter, endDate);
+        long days = ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        return dailyGameStatsRepository.findGameUtilization(startDate, endDate, days);
+    }
+
+    private LocalDate endDate(ReportFilterDTO filter) {
+        return filter.getEndDate() == null ? LocalDate.now() : filter.getEndDate();
+    }
+
+    private LocalDate startDate(ReportFilterDTO filter, LocalDate endDate) {
+        LocalDate startDate = filter.getStartDate() == null
+                ? endDate.minusDays(DEFAULT_PERIOD_DAYS - 1)
+                : filter.getStartDate();
+
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidReportPeriodException("Start date must not be after end date");
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= MAX_PERIOD_DAYS) {
+            throw new InvalidReportPeriodException("Report period must be at most " + MAX_PERIOD_DAYS + " days");
+        }
+
+        return startDate;
+    }
+}
@@ -0,0 +1,136 @@
+package com.boardcamp.api.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.WaitlistDTO;
+import com.boardcamp.api.exceptions.CustomerNotFoundException;
+import com.boardcamp.api.exceptions.GameNotFoundException;
+import com.boardcamp.api.exceptions.WaitlistConflictException;
+import com.boardcamp.api.exceptions.WaitlistEntryNotFoundException;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.WaitlistEntryModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.WaitlistRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Service
+public class WaitlistService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitlistService.class);
+
+    private final WaitlistRepository waitlistRepository;
+    private final CustomerRepository customerRepository;
+    private final GameRepository gameRepository;
+    private final MeterRegistry meterRegistry;
+    private final Duration holdDuration;
+
+    WaitlistService(WaitlistRepository waitlistRepository, CustomerRepository customerRepository,
+            GameRepository gameRepository, MeterRegistry meterRegistry,
+            @Value("${waitlist.hold}") Duration holdDuration) {
+        this.waitlistRepository = waitlistRepository;
+        this.customerRepository = customerRepository;
+        this.gameRepository = gameRepository;
+        this.meterRegistry = meterRegistry;
+        this.holdDuration = holdDuration;
+    }
+
+    @Transactional(readOnly = true)
+    public List<WaitlistEntryModel> findByGame(Long gameId) {
+        if (!gameRepository.existsById(gameId)) {
+            throw new GameNotFoundException("Game not found");
+        }
+
+        return waitlistRepository.findByGameIdOrderById(gameId);
+    }
+
+    @Transactional
+    public WaitlistEntryModel enqueue(WaitlistDTO dto) {
+        CustomerModel customer = customerRepository.findById(dto.getCustomerId())
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found"));
+
+        GameModel game = gameRepository.findById(dto.getGameId())
+                .orElseThrow(() -> new GameNotFoundException("Game not found"));
+
+        WaitlistEntryModel entry = new WaitlistEntryModel(customer, game);
+        if (gameRepository.reserveCopy(game.getId()) == 1) {
+            entry.setHoldExpiresAt(entry.getCreatedAt().plus(holdDuration));
+        }
+
+        try {
+            return waitlistRepository.saveAndFlush(entry);
+        } catch (DataIntegrityViolationException exception) {
+            throw new WaitlistConflictException("Customer is already in the waitlist for this game");
+        }
+    }
+
+    @Transactional
+    public void leave(Long id) {
+        WaitlistEntryModel entry = waitlistRepository.findById(id)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException("Waitlist entry not found"));
+
+        waitlistRepository.delete(entry);
+        waitlistRepository.flush();
+        if (entry.getHoldExpiresAt() != null) {
+            passCopies(entry.getGame().getId(), 1);
+        }
+    }
+
+    public boolean consumeHold(Long customerId, Long gameId) {
+        return waitlistRepository.deleteHold(customerId, gameId, LocalDateTime.now()) == 1;
+    }
+
+    public Set<Long> lockHolders(Long gameId, Collection<Long> customerIds) {
+        return new HashSet<>(waitlistRepository.findHoldersForUpdate(gameId, customerIds, LocalDateTime.now()));
+    }
+
+    public void consumeHolds(Long gameId, Collection<Long> customerIds) {
+        if (!customerIds.isEmpty()) {
+            waitlistRepository.deleteHolds(gameId, customerIds);
+        }
+    }
+
+    public int holdCopies(Long gameId, int copies) {
+        return waitlistRepository.holdNext(gameId, copies, LocalDateTime.now().plus(holdDuration));
+    }
+
+    @Scheduled(fixedDelayString = "${waitlist.expiry-interval}")
+    @Transactional
+    public void expireHolds() {
+        List<WaitlistEntryModel> expired = waitlistRepository.findExpiredHoldsForUpdate(LocalDateTime.now());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        waitlistRepository.deleteAllInBatch(expired);
+
+        Map<Long, Long> copiesByGame = expired.stream()
+                .collect(Collectors.groupingBy(entry -> entry.getGame().getId(), Collectors.counting()));
+        copiesByGame.forEach((gameId, copies) -> passCopies(gameId, copies.intValue()));
+    }
+
+    private void passCopies(Long gameId, int copies) {
+        int held = holdCopies(gameId, copies);
+        if (held < copies && gameRepository.releaseCopies(gameId, copies - held) == 0) {
+            LOGGER.warn("Rented count of game {} is below the {} expired holds being released", gameId, copies - held);
+            meterRegistry.counter(MetricsConfig.GAMES_COUNTER_DRIFT).increment();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+CREATE SEQUENCE outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    rental_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT outbox_events_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,28 @@
+CREATE SEQUENCE change_version_seq;
+
+ALTER TABLE games ADD COLUMN change_xid BIGINT, ADD COLUMN change_version BIGINT;
+ALTER TABLE customers ADD COLUMN change_xid BIGINT, ADD COLUMN change_version BIGINT;
+ALTER TABLE rentals ADD COLUMN change_xid BIGINT, ADD COLUMN change_version BIGINT;
+
+UPDATE games SET change_xid = 0, change_version = nextval('change_version_seq');
+UPDATE customers SET change_xid = 0, change_version = nextval('change_version_seq');
+UPDATE rentals SET change_xid = 0, change_version = nextval('change_version_seq');
+
+ALTER TABLE games ALTER COLUMN change_xid SET NOT NULL, ALTER COLUMN change_version SET NOT NULL;
+ALTER TABLE customers ALTER COLUMN change_xid SET NOT NULL, ALTER COLUMN change_version SET NOT NULL;
+ALTER TABLE rentals ALTER COLUMN change_xid SET NOT NULL, ALTER COLUMN change_version SET NOT NULL;
+
+CREATE FUNCTION record_change_version() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    NEW.change_version := nextval('change_version_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER games_change_version BEFORE INSERT OR UPDATE ON games
+    FOR EACH ROW EXECUTE FUNCTION record_change_version();
+CREATE TRIGGER customers_change_version BEFORE INSERT OR UPDATE ON customers
+    FOR EACH ROW EXECUTE FUNCTION record_change_version();
+CREATE TRIGGER rentals_change_version BEFORE INSERT OR UPDATE ON rentals
+    FOR EACH ROW EXECUTE FUNCTION record_change_version();
@@ -0,0 +1,3 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS games_change_idx ON games (change_xid, change_version);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS customers_change_idx ON customers (change_xid, change_version);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_change_idx ON rentals (change_xid, change_version);
@@ -0,0 +1,17 @@
+-- Schemas created by Hibernate before Flyway gave the CPF constraint a generated name.
+DO $$
+DECLARE
+    cpf_constraint TEXT;
+BEGIN
+    SELECT c.conname INTO cpf_constraint
+    FROM pg_constraint c
+    JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+    WHERE c.conrelid = 'customers'::regclass
+        AND c.contype = 'u'
+        AND array_length(c.conkey, 1) = 1
+        AND a.attname = 'cpf';
+
+    IF cpf_constraint IS NOT NULL AND cpf_constraint <> 'customers_cpf_key' THEN
+        EXECUTE format('ALTER TABLE customers RENAME CONSTRAINT %I TO customers_cpf_key', cpf_constraint);
+    END IF;
+END $$;
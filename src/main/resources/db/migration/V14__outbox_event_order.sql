@@ -0,0 +1,5 @@
+ALTER TABLE outbox_events ADD COLUMN rental_sequence INTEGER;
+UPDATE outbox_events SET rental_sequence = CASE event_type WHEN 'RENTAL_CREATED' THEN 0 ELSE 1 END;
+ALTER TABLE outbox_events ALTER COLUMN rental_sequence SET NOT NULL;
+
+CREATE INDEX outbox_events_rental_id_idx ON outbox_events (rental_id, rental_sequence);
@@ -0,0 +1,4 @@
+DROP TRIGGER games_change_version ON games;
+
+CREATE TRIGGER games_change_version BEFORE INSERT OR UPDATE OF name, image, stock_total, price_per_day ON games
+    FOR EACH ROW EXECUTE FUNCTION record_change_version();
@@ -0,0 +1,36 @@
+CREATE SEQUENCE customers_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE games_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE rentals_seq START WITH 1 INCREMENT BY 100;
+
+CREATE TABLE customers (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    cpf VARCHAR(11) NOT NULL,
+    CONSTRAINT customers_pkey PRIMARY KEY (id),
+    CONSTRAINT customers_cpf_key UNIQUE (cpf)
+);
+
+CREATE TABLE games (
+    id BIGINT NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    image VARCHAR(255),
+    stock_total INTEGER NOT NULL,
+    price_per_day BIGINT NOT NULL,
+    rented_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT games_pkey PRIMARY KEY (id),
+    CONSTRAINT games_name_key UNIQUE (name)
+);
+
+CREATE TABLE rentals (
+    id BIGINT NOT NULL,
+    rent_date DATE NOT NULL DEFAULT CURRENT_DATE,
+    days_rented INTEGER NOT NULL,
+    return_date DATE,
+    original_price BIGINT NOT NULL,
+    delay_fee BIGINT NOT NULL,
+    customer_id BIGINT,
+    game_id BIGINT,
+    CONSTRAINT rentals_pkey PRIMARY KEY (id),
+    CONSTRAINT rentals_customer_id_fkey FOREIGN KEY (customer_id) REFERENCES customers (id),
+    CONSTRAINT rentals_game_id_fkey FOREIGN KEY (game_id) REFERENCES games (id)
+);
@@ -0,0 +1,8 @@
+UPDATE games g
+SET rented_count = (
+    SELECT COUNT(*)
+    FROM rentals r
+    WHERE r.game_id = g.id AND r.return_date IS NULL
+);
+
+ALTER SEQUENCE rentals_seq INCREMENT BY 100;
@@ -0,0 +1,4 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_open_game_id_idx ON rentals (game_id) WHERE return_date IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_customer_id_id_idx ON rentals (customer_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_game_id_id_idx ON rentals (game_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_rent_date_idx ON rentals (rent_date);
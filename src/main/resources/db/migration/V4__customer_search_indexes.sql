@@ -0,0 +1,2 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS customers_lower_name_pattern_idx ON customers (LOWER(name) text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS customers_cpf_pattern_idx ON customers (cpf text_pattern_ops);
@@ -0,0 +1,28 @@
+CREATE TABLE daily_game_stats (
+    stats_date DATE NOT NULL,
+    game_id BIGINT NOT NULL,
+    rentals_opened INTEGER NOT NULL DEFAULT 0,
+    rentals_returned INTEGER NOT NULL DEFAULT 0,
+    days_rented_total BIGINT NOT NULL DEFAULT 0,
+    original_price_total BIGINT NOT NULL DEFAULT 0,
+    delay_fee_total BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT daily_game_stats_pkey PRIMARY KEY (stats_date, game_id),
+    CONSTRAINT daily_game_stats_game_id_fkey FOREIGN KEY (game_id) REFERENCES games (id) ON DELETE CASCADE
+);
+
+CREATE INDEX daily_game_stats_game_id_idx ON daily_game_stats (game_id);
+
+INSERT INTO daily_game_stats (stats_date, game_id, rentals_opened, days_rented_total, original_price_total)
+SELECT rent_date, game_id, COUNT(*), SUM(days_rented), SUM(original_price)
+FROM rentals
+WHERE game_id IS NOT NULL
+GROUP BY rent_date, game_id;
+
+INSERT INTO daily_game_stats (stats_date, game_id, rentals_returned, delay_fee_total)
+SELECT return_date, game_id, COUNT(*), SUM(delay_fee)
+FROM rentals
+WHERE game_id IS NOT NULL AND return_date IS NOT NULL
+GROUP BY return_date, game_id
+ON CONFLICT (stats_date, game_id) DO UPDATE
+SET rentals_returned = EXCLUDED.rentals_returned,
+    delay_fee_total = EXCLUDED.delay_fee_total;
@@ -0,0 +1,5 @@
+ALTER TABLE rentals ADD COLUMN due_date DATE;
+
+UPDATE rentals SET due_date = rent_date + days_rented;
+
+ALTER TABLE rentals ALTER COLUMN due_date SET NOT NULL;
@@ -0,0 +1 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS rentals_open_due_date_idx ON rentals (due_date, id) WHERE return_date IS NULL;
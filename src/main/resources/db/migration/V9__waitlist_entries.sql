@@ -0,0 +1,17 @@
+CREATE SEQUENCE waitlist_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE waitlist_entries (
+    id BIGINT NOT NULL,
+    customer_id BIGINT NOT NULL,
+    game_id BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    hold_expires_at TIMESTAMP(6),
+    CONSTRAINT waitlist_entries_pkey PRIMARY KEY (id),
+    CONSTRAINT waitlist_entries_game_id_customer_id_key UNIQUE (game_id, customer_id),
+    CONSTRAINT waitlist_entries_customer_id_fkey FOREIGN KEY (customer_id) REFERENCES customers (id) ON DELETE CASCADE,
+    CONSTRAINT waitlist_entries_game_id_fkey FOREIGN KEY (game_id) REFERENCES games (id) ON DELETE CASCADE
+);
+
+CREATE INDEX waitlist_entries_waiting_idx ON waitlist_entries (game_id, id) WHERE hold_expires_at IS NULL;
+CREATE INDEX waitlist_entries_hold_expires_at_idx ON waitlist_entries (hold_expires_at) WHERE hold_expires_at IS NOT NULL;
+CREATE INDEX waitlist_entries_customer_id_idx ON waitlist_entries (customer_id);
@@ -0,0 +1,142 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.ChangesDTO;
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalEventDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ChangeIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void givenToken_whenGettingChanges_thenReturnOnlyRowsChangedAfterIt() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 2, 1500L)));
+
+        ResponseEntity<ChangesDTO> initial = testRestTemplate.getForEntity("/changes", ChangesDTO.class);
+
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)),
+                RentalModel.class);
+
+        ResponseEntity<ChangesDTO> delta = testRestTemplate.getForEntity(
+                "/changes?since={since}", ChangesDTO.class, initial.getBody().getNextToken());
+
+        ResponseEntity<ChangesDTO> empty = testRestTemplate.getForEntity(
+                "/changes?since={since}", ChangesDTO.class, delta.getBody().getNextToken());
+
+        assertEquals(HttpStatus.OK, initial.getStatusCode());
+        assertEquals(List.of(game.getId()), initial.getBody().getGames().stream().map(GameModel::getId).toList());
+        assertEquals(List.of(customer.getId()),
+                initial.getBody().getCustomers().stream().map(CustomerModel::getId).toList());
+        assertTrue(initial.getBody().getRentals().isEmpty());
+        assertFalse(initial.getBody().isHasMore());
+
+        assertEquals(HttpStatus.OK, delta.getStatusCode());
+        assertTrue(delta.getBody().getGames().isEmpty());
+        assertTrue(delta.getBody().getCustomers().isEmpty());
+        assertEquals(List.of(rental.getBody().getId()),
+                delta.getBody().getRentals().stream().map(RentalEventDTO::getRentalId).toList());
+
+        assertTrue(empty.getBody().getGames().isEmpty());
+        assertTrue(empty.getBody().getCustomers().isEmpty());
+        assertTrue(empty.getBody().getRentals().isEmpty());
+    }
+
+    @Test
+    void givenRentedAndReturnedGame_whenGettingChanges_thenKeepGameVersion() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 2, 1500L)));
+        Long version = gameChangeVersion();
+
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)),
+                RentalModel.class);
+        testRestTemplate.exchange("/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class,
+                rental.getBody().getId());
+
+        assertEquals(HttpStatus.CREATED, rental.getStatusCode());
+        assertEquals(version, gameChangeVersion());
+    }
+
+    @Test
+    void givenMoreChangesThanLimit_whenGettingChanges_thenPageThroughThem() {
+        gameRepository.save(new GameModel(new GameDTO("name1", "image", 1, 1500L)));
+        gameRepository.save(new GameModel(new GameDTO("name2", "image", 1, 1500L)));
+        customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+
+        ResponseEntity<ChangesDTO> first = testRestTemplate.getForEntity("/changes?limit=2", ChangesDTO.class);
+        ResponseEntity<ChangesDTO> second = testRestTemplate.getForEntity(
+                "/changes?limit=2&since={since}", ChangesDTO.class, first.getBody().getNextToken());
+
+        assertTrue(first.getBody().isHasMore());
+        assertEquals(List.of("name1", "name2"),
+                first.getBody().getGames().stream().map(GameModel::getName).toList());
+        assertFalse(second.getBody().isHasMore());
+        assertTrue(second.getBody().getGames().isEmpty());
+        assertEquals(1, second.getBody().getCustomers().size());
+    }
+
+    @Test
+    void givenInvalidToken_whenGettingChanges_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.getForEntity(
+                "/changes?since={since}", String.class, "not-a-token");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid change token", response.getBody());
+    }
+
+    private Long gameChangeVersion() {
+        return gameRepository.findChangedAfter(0, 0, Long.MAX_VALUE, PageRequest.ofSize(1)).get(0).getChangeVersion();
+    }
+}
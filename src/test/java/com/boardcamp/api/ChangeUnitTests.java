@@ -0,0 +1,77 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.ChangesDTO;
+import com.boardcamp.api.exceptions.InvalidChangeTokenException;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.ChangeService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ChangeUnitTests {
+    @InjectMocks
+    private ChangeService changeService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    void givenNoChangesAfterToken_whenFindingChanges_thenAdvanceTokenToHorizon() {
+        Query horizon = mock(Query.class);
+        doReturn(horizon).when(entityManager).createNativeQuery(anyString());
+        doReturn(900L).when(horizon).getSingleResult();
+        doReturn(List.of()).when(gameRepository).findChangedAfter(anyLong(), anyLong(), anyLong(), any());
+        doReturn(List.of()).when(customerRepository).findChangedAfter(anyLong(), anyLong(), anyLong(), any());
+        doReturn(List.of()).when(rentalRepository).findChangedAfter(anyLong(), anyLong(), anyLong(), any());
+
+        ChangesDTO changes = changeService.findChanges("850.42", 10);
+
+        assertEquals("900.0", changes.getNextToken());
+        assertFalse(changes.isHasMore());
+        verify(gameRepository, times(1)).findChangedAfter(850L, 42L, 900L, PageRequest.of(0, 11));
+    }
+
+    @Test
+    void givenMalformedToken_whenFindingChanges_thenThrowsError() {
+        InvalidChangeTokenException exception = assertThrows(
+                InvalidChangeTokenException.class,
+                () -> changeService.findChanges("12-4", null));
+
+        assertEquals("Invalid change token", exception.getMessage());
+        verifyNoInteractions(entityManager, gameRepository);
+    }
+}
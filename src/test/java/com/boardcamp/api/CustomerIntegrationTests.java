@@ -1,27 +1,51 @@
 package com.boardcamp.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.CustomerRentalHistoryDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
 import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
 import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.CustomerService;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ValidationException;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.boardcamp.api.CustomerIntegrationTests$RecordingStatementInspector")
 @ActiveProfiles("test")
 class CustomerIntegrationTests {
     @Autowired
@@ -30,9 +54,26 @@ class CustomerIntegrationTests {
     @Autowired
     private CustomerRepository customerRepository;
 
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
     @BeforeEach
     @AfterEach
     void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
         customerRepository.deleteAll();
     }
 
@@ -130,4 +171,215 @@ class CustomerIntegrationTests {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertEquals(0, customerRepository.count());
     }
+
+    @Test
+    void givenNamePrefix_whenSearchingCustomers_thenReturnPagedMatches() {
+        customerRepository.save(new CustomerModel(new CustomerDTO("Ana Souza", "11111111111")));
+        customerRepository.save(new CustomerModel(new CustomerDTO("Bruno Lima", "22222222222")));
+        customerRepository.save(new CustomerModel(new CustomerDTO("ana Lima", "33333333333")));
+        customerRepository.save(new CustomerModel(new CustomerDTO("Anabela", "44444444444")));
+
+        ParameterizedTypeReference<List<CustomerModel>> responseType = new ParameterizedTypeReference<List<CustomerModel>>() {
+        };
+
+        ResponseEntity<List<CustomerModel>> firstPage = testRestTemplate.exchange(
+                "/customers?name={name}&limit={limit}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                "AN",
+                2);
+
+        String cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+
+        ResponseEntity<List<CustomerModel>> secondPage = testRestTemplate.exchange(
+                "/customers?name={name}&limit={limit}&after={after}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                "AN",
+                2,
+                cursor);
+
+        ResponseEntity<List<CustomerModel>> wildcard = testRestTemplate.exchange(
+                "/customers?name={name}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                "a%");
+
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(List.of("Ana Souza", "ana Lima"),
+                firstPage.getBody().stream().map(CustomerModel::getName).toList());
+        assertEquals(firstPage.getBody().get(1).getId().toString(), cursor);
+        assertEquals(List.of("Anabela"), secondPage.getBody().stream().map(CustomerModel::getName).toList());
+        assertNull(secondPage.getHeaders().getFirst("X-Next-Cursor"));
+        assertEquals(0, wildcard.getBody().size());
+    }
+
+    @Test
+    void givenNamePrefix_whenSearchingCustomers_thenQueryCanUseNamePatternIndex() {
+        customerRepository.save(new CustomerModel(new CustomerDTO("Ana", "01234567890")));
+        RecordingStatementInspector.STATEMENTS.clear();
+
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/customers?name={name}", String.class, "an");
+        String sql = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.contains(" like "))
+                .findFirst()
+                .orElseThrow();
+
+        // Bitmap scans need an index condition, so the plan can only avoid a sequential scan through the
+        // pattern index.
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class,
+                    "an%", CustomerService.DEFAULT_PAGE_SIZE + 1);
+        });
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(sql.contains(" is null"));
+        assertTrue(String.join("\n", plan).contains("customers_lower_name_pattern_idx"));
+    }
+
+    @Test
+    void givenCpfPrefix_whenSearchingCustomers_thenReturnMatchingCustomers() {
+        customerRepository.save(new CustomerModel(new CustomerDTO("name", "11111111111")));
+        customerRepository.save(new CustomerModel(new CustomerDTO("name", "11122222222")));
+        customerRepository.save(new CustomerModel(new CustomerDTO("name", "22211111111")));
+
+        ParameterizedTypeReference<List<CustomerModel>> responseType = new ParameterizedTypeReference<List<CustomerModel>>() {
+        };
+
+        ResponseEntity<List<CustomerModel>> response = testRestTemplate.exchange(
+                "/customers?cpfPrefix={cpfPrefix}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                "111");
+
+        ResponseEntity<String> invalid = testRestTemplate.exchange(
+                "/customers?cpfPrefix={cpfPrefix}",
+                HttpMethod.GET,
+                null,
+                String.class,
+                "abc");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of("11111111111", "11122222222"),
+                response.getBody().stream().map(CustomerModel::getCpf).toList());
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode());
+    }
+
+    @Test
+    void givenCustomerWithRentals_whenGettingRentalHistory_thenReturnPageAndTotals() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        CustomerModel otherCustomer = customerRepository.save(new CustomerModel(new CustomerDTO("other", "11111111111")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("game", "image", 5, 1500L)));
+
+        saveRental(customer, game, LocalDate.now(), null, 0L);
+        saveRental(customer, game, LocalDate.now().minusDays(10), null, 0L);
+        saveRental(customer, game, LocalDate.now().minusDays(10), LocalDate.now(), 10500L);
+        saveRental(otherCustomer, game, LocalDate.now(), null, 0L);
+
+        ResponseEntity<CustomerRentalHistoryDTO> firstPage = testRestTemplate.exchange(
+                "/customers/{id}/rentals?limit={limit}",
+                HttpMethod.GET,
+                null,
+                CustomerRentalHistoryDTO.class,
+                customer.getId(),
+                2);
+
+        String cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+
+        ResponseEntity<CustomerRentalHistoryDTO> secondPage = testRestTemplate.exchange(
+                "/customers/{id}/rentals?limit={limit}&after={after}",
+                HttpMethod.GET,
+                null,
+                CustomerRentalHistoryDTO.class,
+                customer.getId(),
+                2,
+                cursor);
+
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(2, firstPage.getBody().getRentals().size());
+        assertEquals(1, secondPage.getBody().getRentals().size());
+        assertNull(secondPage.getHeaders().getFirst("X-Next-Cursor"));
+        assertEquals(3L, firstPage.getBody().getSummary().getTotalRentals());
+        assertEquals(2L, firstPage.getBody().getSummary().getOpenRentals());
+        assertEquals(1L, firstPage.getBody().getSummary().getLateRentals());
+        assertEquals(3 * 4500L + 10500L, firstPage.getBody().getSummary().getTotalSpent());
+    }
+
+    @Test
+    void givenInvalidID_whenGettingRentalHistory_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/customers/{id}/rentals",
+                HttpMethod.GET,
+                null,
+                String.class,
+                1L);
+
+        assertEquals("Customer not found", response.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    @Test
+    void givenRegisteredCPF_whenFindingCustomerByCpfTwice_thenServeSecondFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CustomerModel savedCustomer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+
+        ResponseEntity<CustomerModel> firstResponse = testRestTemplate.exchange(
+                "/customers?cpf={cpf}",
+                HttpMethod.GET,
+                null,
+                CustomerModel.class,
+                "01234567890");
+
+        statistics.clear();
+        ResponseEntity<CustomerModel> cachedResponse = testRestTemplate.exchange(
+                "/customers?cpf={cpf}",
+                HttpMethod.GET,
+                null,
+                CustomerModel.class,
+                "01234567890");
+
+        assertEquals(HttpStatus.OK, firstResponse.getStatusCode());
+        assertEquals(savedCustomer, firstResponse.getBody());
+        assertEquals(savedCustomer, cachedResponse.getBody());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void givenUnknownCPF_whenFindingCustomerByCpf_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/customers?cpf={cpf}",
+                HttpMethod.GET,
+                null,
+                String.class,
+                "01234567890");
+
+        assertEquals("Customer not found", response.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    private void saveRental(CustomerModel customer, GameModel game, LocalDate rentDate, LocalDate returnDate,
+            Long delayFee) {
+        RentalModel rental = new RentalModel(new RentalDTO(customer.getId(), game.getId(), 3), customer, game);
+        rental.setRentDate(rentDate);
+        rental.setReturnDate(returnDate);
+        rental.setOriginalPrice(game.getPricePerDay() * 3);
+        rental.setDelayFee(delayFee);
+        rentalRepository.save(rental);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
 }
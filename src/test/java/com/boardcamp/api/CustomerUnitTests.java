@@ -2,21 +2,31 @@ package com.boardcamp.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.CustomerFilterDTO;
+import com.boardcamp.api.dtos.CustomerPageDTO;
 import com.boardcamp.api.exceptions.CustomerCPFConflict;
 import com.boardcamp.api.exceptions.CustomerNotFoundException;
 import com.boardcamp.api.models.CustomerModel;
@@ -38,29 +48,43 @@ class CustomerUnitTests {
         CustomerModel newCustomer = new CustomerModel(dto);
         newCustomer.setId(1L);
 
-        doReturn(false).when(customerRepository).existsByCpf(any());
-        doReturn(newCustomer).when(customerRepository).save(any());
+        doReturn(newCustomer).when(customerRepository).saveAndFlush(any());
 
         CustomerModel result = customerService.save(dto);
 
         assertNotNull(result);
         assertEquals(newCustomer, result);
-        verify(customerRepository, times(1)).existsByCpf(any());
-        verify(customerRepository, times(1)).save(any());
+        verify(customerRepository, times(1)).saveAndFlush(any());
     }
 
     @Test
     void givenRepeteadCPF_whenRegisteringNewCustomer_thenThrowsError() {
         CustomerDTO dto = new CustomerDTO("name", "012345678901");
 
-        doReturn(true).when(customerRepository).existsByCpf(any());
+        doThrow(new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", null, CustomerModel.CPF_CONSTRAINT)))
+                .when(customerRepository).saveAndFlush(any());
 
         CustomerCPFConflict exception = assertThrows(CustomerCPFConflict.class, () -> customerService.save(dto));
 
         assertNotNull(exception);
         assertEquals("Customer is already registered", exception.getMessage());
-        verify(customerRepository, times(1)).existsByCpf(any());
-        verify(customerRepository, times(0)).save(any());
+        verify(customerRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void givenOtherConstraintViolated_whenRegisteringNewCustomer_thenRethrowsError() {
+        CustomerDTO dto = new CustomerDTO("name", "012345678901");
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", null, "customers_name_not_null"));
+
+        doThrow(violation).when(customerRepository).saveAndFlush(any());
+
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> customerService.save(dto));
+
+        assertSame(violation, exception);
+        verify(customerRepository, times(1)).saveAndFlush(any());
     }
 
     @Test
@@ -90,4 +114,43 @@ class CustomerUnitTests {
         verify(customerRepository, times(1)).findById(any());
     }
 
+    @Test
+    void givenNamePrefixAndLimitAboveMaximum_whenFindingCustomerPage_thenEscapesPatternAndClampsPageSize() {
+        CustomerFilterDTO filter = new CustomerFilterDTO(" Ana_% ", null, null, 10_000);
+
+        doReturn(List.of()).when(customerRepository).findPage(any(), any(), any(), any());
+
+        CustomerPageDTO result = customerService.findPage(filter);
+
+        assertNotNull(result);
+        assertNull(result.getNextCursor());
+        verify(customerRepository, times(1)).findPage(eq(null), eq("ana\\_\\%%"), eq(null),
+                eq(PageRequest.ofSize(CustomerService.MAX_PAGE_SIZE + 1)));
+    }
+
+    @Test
+    void givenRegisteredCPF_whenFindingCustomerByCpf_thenReturnCustomer() {
+        CustomerDTO dto = new CustomerDTO("name", "01234567890");
+        CustomerModel customer = new CustomerModel(dto);
+        customer.setId(1L);
+
+        doReturn(Optional.of(customer)).when(customerRepository).findByCpf(any());
+
+        CustomerModel result = customerService.findByCpf("01234567890");
+
+        assertEquals(customer, result);
+        verify(customerRepository, times(1)).findByCpf("01234567890");
+    }
+
+    @Test
+    void givenUnknownCPF_whenFindingCustomerByCpf_thenThrowsError() {
+        doReturn(Optional.empty()).when(customerRepository).findByCpf(any());
+
+        CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
+                () -> customerService.findByCpf("01234567890"));
+
+        assertEquals("Customer not found", exception.getMessage());
+        verify(customerRepository, times(1)).findByCpf(any());
+    }
+
 }
@@ -0,0 +1,92 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.boardcamp.api.configs.ReadWriteRoutingDataSource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSourceRoutingUnitTests {
+    private DataSource primary;
+    private DataSource replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        doReturn(primaryConnection).when(primary).getConnection();
+        doReturn(replicaConnection).when(replica).getConnection();
+
+        dataSource = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenGettingConnection_thenUsePrimary() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(replica);
+    }
+
+    @Test
+    void givenReadOnlyTransaction_whenGettingConnection_thenUseReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection connection = dataSource.getConnection();
+
+        assertSame(replicaConnection, connection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    void givenReplicaDown_whenGettingReadOnlyConnections_thenFallBackToPrimaryWithoutRetrying()
+            throws SQLException {
+        doThrow(new SQLException("Connection refused")).when(replica).getConnection();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        assertSame(primaryConnection, first);
+        assertSame(primaryConnection, second);
+        verify(replica, times(1)).getConnection();
+    }
+
+    @Test
+    void givenPrimaryDown_whenGettingReadWriteConnection_thenThrowsError() throws SQLException {
+        doThrow(new SQLException("Connection refused")).when(primary).getConnection();
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        verifyNoInteractions(replica);
+    }
+}
@@ -0,0 +1,105 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.configs.EntityCacheConfig;
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EntityCacheIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenRentedGame_whenRegisteringSameNameAgain_thenServeNameCheckFromQueryCache() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 3, 1500L)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        HttpEntity<GameDTO> body = new HttpEntity<>(new GameDTO("name", "image", 3, 1500L));
+
+        ResponseEntity<String> first = testRestTemplate.exchange("/games", HttpMethod.POST, body, String.class);
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)),
+                RentalModel.class);
+        long hits = statistics.getQueryCacheHitCount();
+        ResponseEntity<String> second = testRestTemplate.exchange("/games", HttpMethod.POST, body, String.class);
+
+        assertEquals(HttpStatus.CONFLICT, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, rental.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT, second.getStatusCode());
+        assertTrue(statistics.getQueryCacheHitCount() > hits);
+    }
+
+    @Test
+    void givenRentedCustomer_whenRentingAgain_thenLoadCustomerFromSecondLevelCache() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 3, 1500L)));
+        entityManagerFactory.getCache().evictAll();
+        CacheRegionStatistics customers = entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+                .getDomainDataRegionStatistics(EntityCacheConfig.CUSTOMERS);
+        HttpEntity<RentalDTO> body = new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3));
+
+        ResponseEntity<RentalModel> first = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, body, RentalModel.class);
+        long hits = customers.getHitCount();
+        ResponseEntity<RentalModel> second = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, body, RentalModel.class);
+
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals(hits + 1, customers.getHitCount());
+        assertTrue(entityManagerFactory.getCache().contains(CustomerModel.class, customer.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(GameModel.class, game.getId()));
+    }
+}
@@ -1,10 +1,16 @@
 package com.boardcamp.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.util.List;
+import java.util.Map;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,15 +20,18 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.boardcamp.api.dtos.GameAvailabilityDTO;
 import com.boardcamp.api.dtos.GameDTO;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.repositories.GameRepository;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ValidationException;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -34,6 +43,9 @@ class GameIntegrationTests {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @BeforeEach
     @AfterEach
     void cleanUp() {
@@ -137,4 +149,138 @@ class GameIntegrationTests {
         assertEquals(5, gameRepository.count());
     }
 
+    @Test
+    void givenCachedCatalog_whenRegisteringAGame_thenReturnUpdatedCatalog() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        gameRepository.save(new GameModel(new GameDTO("name1", "image", 1, 1500L)));
+
+        ParameterizedTypeReference<List<GameModel>> responseType = new ParameterizedTypeReference<List<GameModel>>() {
+        };
+
+        ResponseEntity<List<GameModel>> firstResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                responseType);
+
+        statistics.clear();
+        ResponseEntity<List<GameModel>> cachedResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                responseType);
+        long cachedStatements = statistics.getPrepareStatementCount();
+
+        HttpEntity<GameDTO> body = new HttpEntity<>(new GameDTO("name2", "image", 1, 1500L));
+        testRestTemplate.exchange("/games", HttpMethod.POST, body, GameModel.class);
+
+        ResponseEntity<List<GameModel>> updatedResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                responseType);
+
+        assertEquals(1, firstResponse.getBody().size());
+        assertEquals(1, cachedResponse.getBody().size());
+        assertEquals(0, cachedStatements);
+        assertEquals(2, updatedResponse.getBody().size());
+        assertEquals(2, gameRepository.count());
+    }
+
+    @Test
+    void givenCachedGamesChangedByCaller_whenReadingAgain_thenServeOriginals() {
+        GameModel gameSaved = gameRepository.save(new GameModel(new GameDTO("name", "image", 3, 1500L)));
+        gameSaved.setName("saved");
+        gameRepository.findById(gameSaved.getId()).get().setPricePerDay(1L);
+        gameRepository.findAll().get(0).setName("listed");
+
+        GameModel gameFound = gameRepository.findById(gameSaved.getId()).get();
+        List<GameModel> catalog = gameRepository.findAll();
+
+        assertEquals("name", gameFound.getName());
+        assertEquals(1500L, gameFound.getPricePerDay());
+        assertEquals("name", catalog.get(0).getName());
+    }
+
+    @Test
+    void givenMatchingETag_whenGettingCatalog_thenReturnNotModified() {
+        gameRepository.save(new GameModel(new GameDTO("name1", "image", 1, 1500L)));
+
+        ResponseEntity<String> firstResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                String.class);
+        String etag = firstResponse.getHeaders().getETag();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+
+        ResponseEntity<String> notModifiedResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class);
+
+        HttpEntity<GameDTO> body = new HttpEntity<>(new GameDTO("name2", "image", 1, 1500L));
+        testRestTemplate.exchange("/games", HttpMethod.POST, body, GameModel.class);
+
+        ResponseEntity<String> modifiedResponse = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class);
+
+        assertEquals(HttpStatus.OK, firstResponse.getStatusCode());
+        assertNotNull(etag);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModifiedResponse.getStatusCode());
+        assertNull(notModifiedResponse.getBody());
+        assertEquals(HttpStatus.OK, modifiedResponse.getStatusCode());
+        assertNotEquals(etag, modifiedResponse.getHeaders().getETag());
+    }
+
+    @Test
+    void givenRentedCopies_whenGettingAvailability_thenReturnCountersInSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        GameModel firstGame = gameRepository.save(new GameModel(new GameDTO("name1", "image", 3, 1500L)));
+        GameModel secondGame = gameRepository.save(new GameModel(new GameDTO("name2", "image", 1, 1500L)));
+
+        ParameterizedTypeReference<List<Map<String, Object>>> catalogType = new ParameterizedTypeReference<List<Map<String, Object>>>() {
+        };
+        ResponseEntity<List<Map<String, Object>>> catalogBefore = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                catalogType);
+
+        gameRepository.reserveCopy(firstGame.getId());
+        gameRepository.reserveCopy(firstGame.getId());
+
+        statistics.clear();
+        ResponseEntity<List<GameAvailabilityDTO>> availability = testRestTemplate.exchange(
+                "/games/availability",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<GameAvailabilityDTO>>() {
+                });
+        long availabilityStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        ResponseEntity<List<Map<String, Object>>> catalogAfter = testRestTemplate.exchange(
+                "/games",
+                HttpMethod.GET,
+                null,
+                catalogType);
+        long catalogStatements = statistics.getPrepareStatementCount();
+
+        assertEquals(HttpStatus.OK, availability.getStatusCode());
+        assertEquals(List.of(
+                new GameAvailabilityDTO(firstGame.getId(), 3, 1),
+                new GameAvailabilityDTO(secondGame.getId(), 1, 1)), availability.getBody());
+        assertEquals(1, availabilityStatements);
+        assertFalse(catalogBefore.getBody().get(0).containsKey("available"));
+        assertEquals(catalogBefore.getBody(), catalogAfter.getBody());
+        assertEquals(0, catalogStatements);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.boardcamp.api;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -8,17 +9,24 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.DigestUtils;
 
+import com.boardcamp.api.dtos.GameAvailabilityDTO;
+import com.boardcamp.api.dtos.GameCatalogDTO;
 import com.boardcamp.api.dtos.GameDTO;
 import com.boardcamp.api.exceptions.GameConflictException;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.repositories.GameRepository;
 import com.boardcamp.api.services.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -29,6 +37,9 @@ class GameUnitTests {
     @Mock
     private GameRepository gameRepository;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
     @Test
     void givenValidGameName_whenRegisteringAGame_thenRegisterNewGame() {
         GameDTO dto = new GameDTO("name", "image", 1, 1L);
@@ -58,4 +69,31 @@ class GameUnitTests {
         verify(gameRepository, times(1)).existsByName(any());
         verify(gameRepository, times(0)).save(any());
     }
+
+    @Test
+    void givenRegisteredGames_whenFindingAvailability_thenReturnRepositoryCounters() {
+        List<GameAvailabilityDTO> availability = List.of(new GameAvailabilityDTO(1L, 3, 2));
+
+        doReturn(availability).when(gameRepository).findAvailability();
+
+        List<GameAvailabilityDTO> result = gameService.findAvailability();
+
+        assertEquals(availability, result);
+        verify(gameRepository, times(1)).findAvailability();
+    }
+
+    @Test
+    void givenRegisteredGames_whenFindingCatalog_thenReturnSerializedCatalogWithETag() throws Exception {
+        GameModel game = new GameModel(new GameDTO("name", "image", 1, 1L));
+        game.setId(1L);
+
+        doReturn(List.of(game)).when(gameRepository).findAll();
+
+        GameCatalogDTO result = gameService.findCatalog();
+
+        assertNotNull(result);
+        assertArrayEquals(objectMapper.writeValueAsBytes(List.of(game)), result.getBody());
+        assertEquals("\"" + DigestUtils.md5DigestAsHex(result.getBody()) + "\"", result.getEtag());
+        verify(gameRepository, times(1)).findAll();
+    }
 }
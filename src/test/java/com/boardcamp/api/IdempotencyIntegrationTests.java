@@ -0,0 +1,207 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.configs.CacheConfig;
+import com.boardcamp.api.configs.IdempotencyFilter;
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.exceptions.IdempotencyKeyConflictException;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.IdempotencyKeyModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.IdempotencyKeyRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.IdempotencyService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "idempotency.persistent=true")
+@ActiveProfiles("test")
+class IdempotencyIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+        idempotencyKeyRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+    }
+
+    @Test
+    void givenRetriedRentalWithSameKey_whenCreatingRental_thenReplayFirstResponse() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        HttpEntity<RentalDTO> request = withKey(new RentalDTO(customer.getId(), game.getId(), 3), "rental-1");
+
+        ResponseEntity<RentalModel> first = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, request, RentalModel.class);
+        ResponseEntity<RentalModel> retry = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, request, RentalModel.class);
+
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertNull(first.getHeaders().getFirst(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(first.getBody().getId(), retry.getBody().getId());
+        assertEquals(1, rentalRepository.count());
+    }
+
+    @Test
+    void givenKeyStoredByAnotherNode_whenRetryingCustomer_thenReplayFromDatabase() {
+        HttpEntity<CustomerDTO> request = withKey(new CustomerDTO("name", "01234567890"), "customer-1");
+
+        ResponseEntity<CustomerModel> first = testRestTemplate.exchange(
+                "/customers", HttpMethod.POST, request, CustomerModel.class);
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+        ResponseEntity<CustomerModel> retry = testRestTemplate.exchange(
+                "/customers", HttpMethod.POST, request, CustomerModel.class);
+
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals("true", retry.getHeaders().getFirst(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(first.getBody(), retry.getBody());
+        assertEquals(1, customerRepository.count());
+    }
+
+    @Test
+    void givenKeyReusedWithDifferentBody_whenCreatingCustomer_thenThrowsError() {
+        testRestTemplate.exchange("/customers", HttpMethod.POST,
+                withKey(new CustomerDTO("name", "01234567890"), "customer-1"), CustomerModel.class);
+
+        ResponseEntity<String> response = testRestTemplate.exchange("/customers", HttpMethod.POST,
+                withKey(new CustomerDTO("other", "01234567891"), "customer-1"), String.class);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertEquals("This Idempotency-Key was already used with a different request", response.getBody());
+        assertEquals(1, customerRepository.count());
+    }
+
+    @Test
+    void givenFailedRequest_whenRetryingWithSameKey_thenRunItAgain() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        gameRepository.reserveCopy(game.getId());
+        HttpEntity<RentalDTO> request = withKey(new RentalDTO(customer.getId(), game.getId(), 3), "rental-1");
+
+        ResponseEntity<String> outOfStock = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, request, String.class);
+        gameRepository.releaseCopy(game.getId());
+        ResponseEntity<RentalModel> retry = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, request, RentalModel.class);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, outOfStock.getStatusCode());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertNull(retry.getHeaders().getFirst(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals(1, rentalRepository.count());
+    }
+
+    @Test
+    void givenClaimInFlightOnAnotherNode_whenRetryingCustomer_thenThrowsError() throws NoSuchAlgorithmException {
+        String body = "{\"name\":\"name\",\"cpf\":\"01234567890\"}";
+        String requestHash = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+        idempotencyKeyRepository.save(new IdempotencyKeyModel("/customers:customer-1", requestHash, null, null, null,
+                LocalDateTime.now()));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "customer-1");
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        ResponseEntity<String> response = testRestTemplate.exchange("/customers", HttpMethod.POST,
+                new HttpEntity<>(body, headers), String.class);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(0, customerRepository.count());
+    }
+
+    @Test
+    void givenStaleClaimLeftByCrashedNode_whenRetryingCustomer_thenTakeItOver() {
+        idempotencyKeyRepository.save(new IdempotencyKeyModel("/customers:customer-1", "hash", null, null, null,
+                LocalDateTime.now().minusHours(1)));
+
+        ResponseEntity<CustomerModel> response = testRestTemplate.exchange("/customers", HttpMethod.POST,
+                withKey(new CustomerDTO("name", "01234567890"), "customer-1"), CustomerModel.class);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, customerRepository.count());
+        assertEquals(HttpStatus.CREATED.value(),
+                idempotencyKeyRepository.findById("/customers:customer-1").get().getResponseStatus());
+    }
+
+    @Test
+    void givenResponseCacheEvicted_whenRetryingClaimInFlight_thenThrowsError() {
+        assertNull(idempotencyService.claim("/customers:customer-1", "hash"));
+        cacheManager.getCache(CacheConfig.IDEMPOTENCY_KEYS).clear();
+        // Without the row only this node's own claim guards the key, as when persistence is off.
+        idempotencyKeyRepository.deleteAll();
+
+        try {
+            assertThrows(IdempotencyKeyConflictException.class,
+                    () -> idempotencyService.claim("/customers:customer-1", "hash"));
+        } finally {
+            idempotencyService.release("/customers:customer-1");
+        }
+    }
+
+    @Test
+    void givenBlankKey_whenCreatingCustomer_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange("/customers", HttpMethod.POST,
+                withKey(new CustomerDTO("name", "01234567890"), " "), String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(0, customerRepository.count());
+    }
+
+    private <T> HttpEntity<T> withKey(T body, String key) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        return new HttpEntity<>(body, headers);
+    }
+}
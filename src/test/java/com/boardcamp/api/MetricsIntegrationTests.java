@@ -0,0 +1,79 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class MetricsIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void givenRejectedRental_whenScrapingPrometheus_thenExposesTimersAndRejections() {
+        RentalDTO dto = new RentalDTO(1L, 1L, 3);
+
+        ResponseEntity<String> rental = testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(dto),
+                String.class);
+        testRestTemplate.getForEntity("/games", String.class);
+        testRestTemplate.getForEntity("/games/availability", String.class);
+
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/actuator/prometheus", String.class);
+        String body = response.getBody();
+
+        assertEquals(HttpStatus.NOT_FOUND, rental.getStatusCode());
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(body.contains(
+                "boardcamp_requests_rejected_total{application=\"boardcamp\",exception=\"CustomerNotFoundException\",status=\"404\""));
+        assertTrue(body.contains("boardcamp_rentals_make_seconds_bucket"));
+        assertTrue(body.contains("boardcamp_games_catalog_seconds_count"));
+        assertTrue(body.contains("spring_data_repository_invocations_seconds_count"));
+        assertTrue(body.contains("hikaricp_connections_pending"));
+        assertTrue(body.contains("hikaricp_connections_pending{application=\"boardcamp\",pool=\"replica\""));
+        assertTrue(body.contains("hibernate_statements_total"));
+        assertTrue(body.contains("hibernate_second_level_cache_requests_total"));
+        assertTrue(body.contains("hibernate_cache_query_requests_total"));
+        assertTrue(body.contains(
+                "cache_gets_total{application=\"boardcamp\",cache=\"gameCatalog\",cache_manager=\"cacheManager\",name=\"gameCatalog\",result=\"miss\""));
+        assertTrue(body.contains("cache_gets_total{application=\"boardcamp\",cache=\"games\""));
+    }
+}
@@ -0,0 +1,157 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalEventType;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.OutboxEventModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.OutboxEventRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.OutboxPublisher;
+import com.boardcamp.api.services.OutboxService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class OutboxIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${outbox.file}")
+    private Path outboxFile;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() throws IOException {
+        outboxEventRepository.deleteAll();
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+        Files.deleteIfExists(outboxFile);
+    }
+
+    @Test
+    void givenRentalMadeAndReturned_whenDrainingOutbox_thenPublishEventsInOrder() throws IOException {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange("/rentals", HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)), RentalModel.class);
+        testRestTemplate.exchange("/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class,
+                rental.getBody().getId());
+
+        List<OutboxEventModel> pending = outboxEventRepository.findAll();
+        outboxPublisher.drain();
+        List<String> lines = Files.readAllLines(outboxFile);
+
+        assertEquals(2, pending.size());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(2, lines.size());
+
+        JsonNode created = objectMapper.readTree(lines.get(0));
+        JsonNode returned = objectMapper.readTree(lines.get(1));
+        assertEquals(RentalEventType.RENTAL_CREATED.name(), created.get("eventType").asText());
+        assertEquals(rental.getBody().getId(), created.get("payload").get("rentalId").asLong());
+        assertEquals(4500, created.get("payload").get("originalPrice").asLong());
+        assertEquals(RentalEventType.RENTAL_RETURNED.name(), returned.get("eventType").asText());
+        assertEquals(rental.getBody().getId(), returned.get("rentalId").asLong());
+        assertEquals(false, returned.get("payload").get("returnDate").isNull());
+    }
+
+    @Test
+    void givenReturnEventWithLowerId_whenDrainingOutbox_thenPublishCreationFirst() throws IOException {
+        RentalModel rental = returnedRental();
+        outboxEventRepository.deleteAll();
+        outboxService.record(RentalEventType.RENTAL_RETURNED, rental);
+        outboxService.record(RentalEventType.RENTAL_CREATED, rental);
+
+        outboxPublisher.drain();
+        List<String> lines = Files.readAllLines(outboxFile);
+
+        assertEquals(2, lines.size());
+        assertEquals(RentalEventType.RENTAL_CREATED.name(),
+                objectMapper.readTree(lines.get(0)).get("eventType").asText());
+        assertEquals(RentalEventType.RENTAL_RETURNED.name(),
+                objectMapper.readTree(lines.get(1)).get("eventType").asText());
+    }
+
+    @Test
+    void givenCreationEventLockedByAnotherDrain_whenPublishingBatch_thenHoldBackReturnEvent() throws SQLException {
+        returnedRental();
+
+        int published;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.createStatement().execute(
+                    "SELECT * FROM outbox_events WHERE event_type = 'RENTAL_CREATED' FOR UPDATE");
+            published = outboxService.publishBatch();
+            connection.rollback();
+        }
+
+        assertEquals(0, published);
+        assertEquals(2, outboxEventRepository.count());
+    }
+
+    private RentalModel returnedRental() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange("/rentals", HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)), RentalModel.class);
+        return testRestTemplate.exchange("/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class,
+                rental.getBody().getId()).getBody();
+    }
+}
@@ -0,0 +1,80 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.RentalEventType;
+import com.boardcamp.api.models.OutboxEventModel;
+import com.boardcamp.api.repositories.OutboxEventRepository;
+import com.boardcamp.api.services.OutboxService;
+import com.boardcamp.api.services.OutboxSink;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxUnitTests {
+    @InjectMocks
+    private OutboxService outboxService;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void givenPendingEvents_whenPublishingBatch_thenPublishAndDeleteThem() throws IOException {
+        List<OutboxEventModel> events = List.of(
+                new OutboxEventModel(RentalEventType.RENTAL_CREATED, 1L, "{}"),
+                new OutboxEventModel(RentalEventType.RENTAL_RETURNED, 1L, "{}"));
+
+        doReturn(events).when(outboxEventRepository).findBatchForUpdate(OutboxService.PUBLISH_BATCH_SIZE);
+
+        int published = outboxService.publishBatch();
+
+        assertEquals(2, published);
+        verify(outboxSink, times(1)).publish(events);
+        verify(outboxEventRepository, times(1)).deleteAllInBatch(events);
+    }
+
+    @Test
+    void givenNoPendingEvents_whenPublishingBatch_thenDoNotCallSink() throws IOException {
+        doReturn(List.of()).when(outboxEventRepository).findBatchForUpdate(OutboxService.PUBLISH_BATCH_SIZE);
+
+        int published = outboxService.publishBatch();
+
+        assertEquals(0, published);
+        verify(outboxSink, times(0)).publish(any());
+    }
+
+    @Test
+    void givenFailingSink_whenPublishingBatch_thenKeepEventsForNextRun() throws IOException {
+        List<OutboxEventModel> events = List.of(new OutboxEventModel(RentalEventType.RENTAL_CREATED, 1L, "{}"));
+
+        doReturn(events).when(outboxEventRepository).findBatchForUpdate(OutboxService.PUBLISH_BATCH_SIZE);
+        doThrow(new IOException("disk full")).when(outboxSink).publish(events);
+
+        assertThrows(UncheckedIOException.class, () -> outboxService.publishBatch());
+
+        verify(outboxEventRepository, times(0)).deleteAllInBatch(any());
+    }
+}
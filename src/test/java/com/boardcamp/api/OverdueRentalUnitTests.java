@@ -0,0 +1,121 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.configs.MetricsConfig;
+import com.boardcamp.api.dtos.OverdueRentalDTO;
+import com.boardcamp.api.dtos.OverdueRentalPageDTO;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.OverdueRentalService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OverdueRentalUnitTests {
+    @InjectMocks
+    private OverdueRentalService overdueRentalService;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenScanAlreadyRanToday_whenRefreshing_thenDoNotQueryAgain() {
+        LocalDate today = LocalDate.now();
+
+        doReturn(List.of()).when(rentalRepository).findOverdue(any(), any(), any());
+
+        overdueRentalService.rebuild();
+        overdueRentalService.refresh();
+
+        verify(rentalRepository, times(1)).findOverdue(isNull(), eq(today), any());
+        verify(rentalRepository, times(1)).findOverdue(any(), any(), any());
+    }
+
+    @Test
+    void givenRebuild_whenScanning_thenRecordScanDuration() {
+        doReturn(List.of()).when(rentalRepository).findOverdue(any(), any(), any());
+
+        overdueRentalService.rebuild();
+
+        assertEquals(1, meterRegistry.get(MetricsConfig.RENTALS_OVERDUE_SCAN).timer().count());
+    }
+
+    @Test
+    void givenNoScanYet_whenFindingPage_thenPageFromDatabaseWithoutScanning() {
+        LocalDate today = LocalDate.now();
+        OverdueRentalDTO open = new OverdueRentalDTO(1L, 1L, 1L, today.minusDays(2), 1500L);
+
+        doReturn(List.of(open)).when(rentalRepository).findOverdueAfter(anyLong(), any(), any());
+
+        OverdueRentalPageDTO page = overdueRentalService.findPage(null, null);
+
+        assertEquals(List.of(new OverdueRentalDTO(1L, 1L, 1L, today.minusDays(2), 1500L, 2L, 3000L)),
+                page.getRentals());
+        verify(rentalRepository, never()).findOverdue(any(), any(), any());
+        verify(rentalRepository, times(1)).findOverdueAfter(0L, today,
+                PageRequest.ofSize(OverdueRentalService.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void givenMoreOverdueRentalsThanProjected_whenFindingPage_thenPageTheRestFromDatabase() {
+        LocalDate today = LocalDate.now();
+        long last = OverdueRentalService.MAX_PROJECTED_RENTALS;
+        List<OverdueRentalDTO> projected = LongStream.rangeClosed(1, last)
+                .mapToObj(id -> new OverdueRentalDTO(id, 1L, 1L, today.minusDays(1), 1500L))
+                .toList();
+
+        doReturn(projected).when(rentalRepository).findOverdue(any(), any(), any());
+        doReturn(List.of(last)).when(rentalRepository).findOpenIdsByIdIn(List.of(last));
+        doReturn(List.of(new OverdueRentalDTO(last + 1, 1L, 1L, today.minusDays(1), 1500L)))
+                .when(rentalRepository).findOverdueAfter(last, today, PageRequest.ofSize(2));
+
+        overdueRentalService.rebuild();
+        OverdueRentalPageDTO page = overdueRentalService.findPage(last - 1, 2);
+
+        assertEquals(List.of(last, last + 1), page.getRentals().stream().map(OverdueRentalDTO::getRentalId).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void givenReturnedRentalInProjection_whenFindingPage_thenSkipItAndProjectFees() {
+        LocalDate today = LocalDate.now();
+        OverdueRentalDTO returned = new OverdueRentalDTO(1L, 1L, 1L, today.minusDays(1), 1500L);
+        OverdueRentalDTO open = new OverdueRentalDTO(2L, 1L, 2L, today.minusDays(3), 2000L);
+
+        doReturn(List.of(returned, open)).when(rentalRepository).findOverdue(any(), any(), any());
+        doReturn(List.of(2L)).when(rentalRepository).findOpenIdsByIdIn(List.of(1L, 2L));
+
+        overdueRentalService.rebuild();
+        OverdueRentalPageDTO page = overdueRentalService.findPage(null, null);
+
+        assertEquals(List.of(new OverdueRentalDTO(2L, 1L, 2L, today.minusDays(3), 2000L, 3L, 6000L)),
+                page.getRentals());
+        assertNull(page.getNextCursor());
+    }
+}
@@ -3,10 +3,20 @@ package com.boardcamp.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,19 +27,28 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import com.boardcamp.api.dtos.CustomerDTO;
 import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.OverdueRentalDTO;
+import com.boardcamp.api.dtos.RentalBatchResultDTO;
 import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalReturnResultDTO;
 import com.boardcamp.api.models.CustomerModel;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.models.RentalModel;
 import com.boardcamp.api.repositories.CustomerRepository;
 import com.boardcamp.api.repositories.GameRepository;
 import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.OverdueRentalService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.validation.ValidationException;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -41,12 +60,24 @@ class RentalIntegrationTests {
     @Autowired
     private GameRepository gameRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Autowired
     private CustomerRepository customerRepository;
 
     @Autowired
     private RentalRepository rentalRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OverdueRentalService overdueRentalService;
+
     @BeforeEach
     @AfterEach
     void cleanUp() {
@@ -89,6 +120,227 @@ class RentalIntegrationTests {
         assertEquals(amountOfRentals, rentalRepository.count());
     }
 
+    @Test
+    void givenRentalsOfDistinctCustomersAndGames_whenGettingRentals_thenUseSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        for (int amount = 1; amount <= 2; amount++) {
+            int amountOfRentals = amount * 5;
+            rentalRepository.deleteAll();
+            customerRepository.deleteAll();
+            gameRepository.deleteAll();
+
+            for (int index = 0; index < amountOfRentals; index++) {
+                GameDTO gameDTO = new GameDTO("name" + index, "image", 1, 1500L);
+                GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+                CustomerDTO customerDTO = new CustomerDTO("name", String.format("%011d", index));
+                CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+                RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+                RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
+                rentalModel.setDelayFee(0L);
+                rentalModel.setOriginalPrice(gameSaved.getPricePerDay() * 3);
+                rentalModel.setRentDate(LocalDate.now());
+                rentalRepository.save(rentalModel);
+            }
+
+            ParameterizedTypeReference<List<RentalModel>> responseType = new ParameterizedTypeReference<List<RentalModel>>() {
+            };
+
+            statistics.clear();
+            ResponseEntity<List<RentalModel>> response = testRestTemplate.exchange(
+                    "/rentals",
+                    HttpMethod.GET,
+                    null,
+                    responseType);
+
+            assertEquals(HttpStatus.OK, response.getStatusCode());
+            assertEquals(amountOfRentals, response.getBody().size());
+            assertNotNull(response.getBody().get(0).getGame().getName());
+            assertNotNull(response.getBody().get(0).getCustomer().getCpf());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+    }
+
+    @Test
+    void givenManyNewRentals_whenSavingAll_thenAllocateIdsInBlocksAndBatchInserts() {
+        int amountOfRentals = 120;
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        GameModel gameSaved = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(new CustomerDTO("name", "12345678901")));
+
+        List<RentalModel> rentals = new ArrayList<>();
+        for (int amount = amountOfRentals; amount > 0; amount--) {
+            RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+            RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
+            rentalModel.setDelayFee(0L);
+            rentalModel.setOriginalPrice(gameSaved.getPricePerDay() * 3);
+            rentalModel.setRentDate(LocalDate.now());
+            rentals.add(rentalModel);
+        }
+
+        statistics.clear();
+        List<RentalModel> savedRentals = rentalRepository.saveAll(rentals);
+
+        assertEquals(amountOfRentals, savedRentals.stream().map(RentalModel::getId).distinct().count());
+        assertTrue(statistics.getPrepareStatementCount() < 10);
+        assertEquals(amountOfRentals, rentalRepository.count());
+    }
+
+    @Test
+    void givenLimit_whenGettingRentals_thenReturnPageWithNextCursor() {
+        GameDTO gameDTO = new GameDTO("name", "image", 5, 1500L);
+        GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        for (int amount = 5; amount > 0; amount--) {
+            RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+            RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
+            rentalModel.setDelayFee(0L);
+            rentalModel.setOriginalPrice(gameSaved.getPricePerDay() * 3);
+            rentalModel.setRentDate(LocalDate.now());
+            rentalRepository.save(rentalModel);
+        }
+
+        ParameterizedTypeReference<List<RentalModel>> responseType = new ParameterizedTypeReference<List<RentalModel>>() {
+        };
+
+        ResponseEntity<List<RentalModel>> firstPage = testRestTemplate.exchange(
+                "/rentals?limit={limit}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                3);
+
+        String cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(3, firstPage.getBody().size());
+        assertEquals(firstPage.getBody().get(2).getId().toString(), cursor);
+
+        ResponseEntity<List<RentalModel>> secondPage = testRestTemplate.exchange(
+                "/rentals?limit={limit}&after={after}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                3,
+                cursor);
+
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        assertEquals(2, secondPage.getBody().size());
+        assertNull(secondPage.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
+    @Test
+    void givenStatusFilter_whenGettingRentals_thenReturnOnlyMatchingRentals() {
+        GameDTO gameDTO = new GameDTO("name", "image", 3, 1500L);
+        GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        LocalDate today = LocalDate.now();
+        LocalDate[][] dates = {
+                { today, null },
+                { today.minusDays(5), null },
+                { today.minusDays(5), today }
+        };
+
+        for (LocalDate[] rentAndReturn : dates) {
+            RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+            RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
+            rentalModel.setDelayFee(0L);
+            rentalModel.setOriginalPrice(gameSaved.getPricePerDay() * 3);
+            rentalModel.setRentDate(rentAndReturn[0]);
+            rentalModel.setReturnDate(rentAndReturn[1]);
+            rentalRepository.save(rentalModel);
+        }
+
+        ParameterizedTypeReference<List<RentalModel>> responseType = new ParameterizedTypeReference<List<RentalModel>>() {
+        };
+
+        ResponseEntity<List<RentalModel>> open = testRestTemplate.exchange(
+                "/rentals?status=open&customerId={customerId}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                customerSaved.getId());
+
+        ResponseEntity<List<RentalModel>> returned = testRestTemplate.exchange(
+                "/rentals?status=returned&gameId={gameId}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                gameSaved.getId());
+
+        ResponseEntity<List<RentalModel>> late = testRestTemplate.exchange(
+                "/rentals?status=late",
+                HttpMethod.GET,
+                null,
+                responseType);
+
+        ResponseEntity<List<RentalModel>> rentedToday = testRestTemplate.exchange(
+                "/rentals?startDate={startDate}",
+                HttpMethod.GET,
+                null,
+                responseType,
+                today.toString());
+
+        assertEquals(2, open.getBody().size());
+        assertEquals(1, returned.getBody().size());
+        assertEquals(1, late.getBody().size());
+        assertEquals(today.minusDays(5), late.getBody().get(0).getRentDate());
+        assertEquals(1, rentedToday.getBody().size());
+    }
+
+    @Test
+    void givenInvalidStatus_whenGettingRentals_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/rentals?status=lost",
+                HttpMethod.GET,
+                null,
+                String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void givenExportRequest_whenThereAreRentals_thenStreamOneRentalPerLine() throws Exception {
+        GameDTO gameDTO = new GameDTO("name", "image", 3, 1500L);
+        GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        for (int amount = 3; amount > 0; amount--) {
+            RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+            RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
+            rentalModel.setDelayFee(0L);
+            rentalModel.setOriginalPrice(gameSaved.getPricePerDay() * 3);
+            rentalModel.setRentDate(LocalDate.now());
+            rentalRepository.save(rentalModel);
+        }
+
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/rentals/export",
+                HttpMethod.GET,
+                null,
+                String.class);
+
+        String[] lines = response.getBody().split("\n");
+        RentalModel firstRental = objectMapper.readValue(lines[0], RentalModel.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(3, lines.length);
+        assertEquals(gameSaved, firstRental.getGame());
+        assertEquals(customerSaved, firstRental.getCustomer());
+    }
+
     @Test
     void givenValidDTO_whenMakingNewRental_thenReturnNewRental() {
         CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
@@ -190,6 +442,7 @@ class RentalIntegrationTests {
         GameDTO gameDTO = new GameDTO("name", "image", 1, 1500L);
         GameModel gameModel = new GameModel(gameDTO);
         GameModel gameSaved = gameRepository.save(gameModel);
+        gameRepository.reserveCopy(gameSaved.getId());
 
         RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
         RentalModel rentalModel = new RentalModel(rentalDTO, customerSaved, gameSaved);
@@ -212,6 +465,185 @@ class RentalIntegrationTests {
         assertEquals(1, rentalRepository.count());
     }
 
+    @Test
+    void givenConcurrentRentalsOfSameGame_whenMakingNewRentals_thenNeverOversell() throws Exception {
+        int stockTotal = 3;
+        int amountOfRequests = 20;
+
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        GameDTO gameDTO = new GameDTO("name", "image", stockTotal, 1500L);
+        GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+        RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(amountOfRequests);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+
+        for (int request = 0; request < amountOfRequests; request++) {
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                return testRestTemplate.exchange(
+                        "/rentals",
+                        HttpMethod.POST,
+                        new HttpEntity<>(rentalDTO),
+                        String.class).getStatusCode();
+            }));
+        }
+        startSignal.countDown();
+
+        int created = 0;
+        int outOfStock = 0;
+        for (Future<HttpStatusCode> result : results) {
+            HttpStatusCode status = result.get(30, TimeUnit.SECONDS);
+            if (status == HttpStatus.CREATED) {
+                created++;
+            } else if (status == HttpStatus.UNPROCESSABLE_ENTITY) {
+                outOfStock++;
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(stockTotal, created);
+        assertEquals(amountOfRequests - stockTotal, outOfStock);
+        assertEquals(stockTotal, rentalRepository.countByGameIdAndReturnDateNull(gameSaved.getId()));
+        assertEquals(stockTotal, findRentedCount(gameSaved.getId()));
+    }
+
+    @Test
+    void givenConcurrentBatchesListingGamesInOppositeOrder_whenMakingRentalsInBatch_thenNeverDeadlock()
+            throws Exception {
+        int amountOfPairs = 20;
+
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(new CustomerDTO("name", "12345678901")));
+        List<RentalDTO> ascending = new ArrayList<>();
+        for (int game = 1; game <= 6; game++) {
+            GameModel gameSaved = gameRepository.save(
+                    new GameModel(new GameDTO("name" + game, "image", 2 * amountOfPairs, 1500L)));
+            ascending.add(new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3));
+        }
+        List<RentalDTO> descending = new ArrayList<>(ascending);
+        Collections.reverse(descending);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2 * amountOfPairs);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+
+        for (int pair = 0; pair < amountOfPairs; pair++) {
+            for (List<RentalDTO> batch : List.of(ascending, descending)) {
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    return testRestTemplate.exchange(
+                            "/rentals/batch",
+                            HttpMethod.POST,
+                            new HttpEntity<>(batch),
+                            String.class).getStatusCode();
+                }));
+            }
+        }
+        startSignal.countDown();
+
+        for (Future<HttpStatusCode> result : results) {
+            assertEquals(HttpStatus.CREATED, result.get(60, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        for (RentalDTO rental : ascending) {
+            assertEquals(2 * amountOfPairs, findRentedCount(rental.getGameId()));
+        }
+    }
+
+    @Test
+    void givenReturnedRental_whenMakingNewRentalOfSameGame_thenCopyIsAvailableAgain() {
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        GameDTO gameDTO = new GameDTO("name", "image", 1, 1500L);
+        GameModel gameSaved = gameRepository.save(new GameModel(gameDTO));
+
+        HttpEntity<RentalDTO> body = new HttpEntity<>(new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3));
+
+        ResponseEntity<RentalModel> firstRental = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, body, RentalModel.class);
+        ResponseEntity<String> outOfStock = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, body, String.class);
+        testRestTemplate.exchange(
+                "/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class, firstRental.getBody().getId());
+        ResponseEntity<RentalModel> secondRental = testRestTemplate.exchange(
+                "/rentals", HttpMethod.POST, body, RentalModel.class);
+
+        assertEquals(HttpStatus.CREATED, firstRental.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, outOfStock.getStatusCode());
+        assertEquals(HttpStatus.CREATED, secondRental.getStatusCode());
+        assertEquals(2, rentalRepository.count());
+    }
+
+    @Test
+    void givenBatchOfRentals_whenMakingRentalsInBatch_thenReturnPerItemResults() {
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        GameModel firstGame = gameRepository.save(new GameModel(new GameDTO("first", "image", 2, 1500L)));
+        GameModel secondGame = gameRepository.save(new GameModel(new GameDTO("second", "image", 1, 2500L)));
+
+        List<RentalDTO> rentalDTOs = List.of(
+                new RentalDTO(customerSaved.getId(), firstGame.getId(), 3),
+                new RentalDTO(customerSaved.getId(), firstGame.getId(), 2),
+                new RentalDTO(customerSaved.getId(), secondGame.getId(), 3),
+                new RentalDTO(customerSaved.getId(), secondGame.getId(), 3),
+                new RentalDTO(customerSaved.getId() + 1, firstGame.getId(), 3));
+
+        ParameterizedTypeReference<List<RentalBatchResultDTO>> responseType = new ParameterizedTypeReference<List<RentalBatchResultDTO>>() {
+        };
+
+        ResponseEntity<List<RentalBatchResultDTO>> response = testRestTemplate.exchange(
+                "/rentals/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(rentalDTOs),
+                responseType);
+
+        List<RentalBatchResultDTO> results = response.getBody();
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(5, results.size());
+        assertEquals(HttpStatus.CREATED.value(), results.get(0).getStatus());
+        assertEquals(4500L, results.get(0).getRental().getOriginalPrice());
+        assertEquals(HttpStatus.CREATED.value(), results.get(1).getStatus());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), results.get(2).getStatus());
+        assertEquals("Game is out of stock", results.get(3).getMessage());
+        assertEquals(HttpStatus.NOT_FOUND.value(), results.get(4).getStatus());
+        assertEquals("Customer not found", results.get(4).getMessage());
+        assertEquals(2, rentalRepository.count());
+        assertEquals(2, findRentedCount(firstGame.getId()));
+        assertEquals(0, findRentedCount(secondGame.getId()));
+    }
+
+    @Test
+    void givenEmptyBatch_whenMakingRentalsInBatch_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/rentals/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of()),
+                String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(0, rentalRepository.count());
+    }
+
+    @Test
+    void givenInvalidItemInBatch_whenMakingRentalsInBatch_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/rentals/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(new RentalDTO(null, 1L, 0))),
+                String.class);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(0, rentalRepository.count());
+    }
+
     @Test
     void givenValidOpenRental_whenReturningRental_thenReturnsUpdatedRental() {
         CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
@@ -295,6 +727,122 @@ class RentalIntegrationTests {
         assertEquals(1, rentalRepository.count());
     }
 
+    @Test
+    void givenBatchOfRentalIds_whenReturningRentalsInBatch_thenReturnPerIdResults() {
+        CustomerDTO customerDTO = new CustomerDTO("name", "12345678901");
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(customerDTO));
+
+        int pricePerDay = 1500;
+        GameModel gameSaved = gameRepository.save(new GameModel(new GameDTO("name", "image", 3, Long.valueOf(pricePerDay))));
+        gameRepository.reserveCopies(gameSaved.getId(), 2);
+
+        LocalDate today = LocalDate.now();
+        int daysRented = 3;
+        int daysLate = 2;
+        LocalDate[][] dates = {
+                { today, null },
+                { today.minusDays(daysRented + daysLate), null },
+                { today, today }
+        };
+
+        List<Long> ids = new ArrayList<>();
+        for (LocalDate[] rentAndReturn : dates) {
+            RentalDTO rentalDTO = new RentalDTO(customerSaved.getId(), gameSaved.getId(), daysRented);
+            RentalModel rental = new RentalModel(rentalDTO, customerSaved, gameSaved);
+            rental.setOriginalPrice(gameSaved.getPricePerDay() * daysRented);
+            rental.setDelayFee(0L);
+            rental.setRentDate(rentAndReturn[0]);
+            rental.setReturnDate(rentAndReturn[1]);
+            ids.add(rentalRepository.save(rental).getId());
+        }
+        ids.add(ids.get(2) + 1);
+
+        ParameterizedTypeReference<List<RentalReturnResultDTO>> responseType = new ParameterizedTypeReference<List<RentalReturnResultDTO>>() {
+        };
+
+        ResponseEntity<List<RentalReturnResultDTO>> response = testRestTemplate.exchange(
+                "/rentals/batch/return",
+                HttpMethod.PUT,
+                new HttpEntity<>(ids),
+                responseType);
+
+        List<RentalReturnResultDTO> results = response.getBody();
+
+        assertEquals(HttpStatus.MULTI_STATUS, response.getStatusCode());
+        assertEquals(4, results.size());
+        assertEquals(HttpStatus.OK.value(), results.get(0).getStatus());
+        assertEquals(today, results.get(0).getRental().getReturnDate());
+        assertEquals(0, results.get(0).getRental().getDelayFee());
+        assertEquals(HttpStatus.OK.value(), results.get(1).getStatus());
+        assertEquals(daysLate * pricePerDay, results.get(1).getRental().getDelayFee());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), results.get(2).getStatus());
+        assertEquals("This rental was already returned", results.get(2).getMessage());
+        assertEquals(HttpStatus.NOT_FOUND.value(), results.get(3).getStatus());
+        assertEquals(ids.get(3), results.get(3).getRentalId());
+        assertEquals(0, rentalRepository.countByGameIdAndReturnDateNull(gameSaved.getId()));
+        assertEquals(0, findRentedCount(gameSaved.getId()));
+    }
+
+    @Test
+    void givenConcurrentBatchesListingRentalsInOppositeOrder_whenReturningRentalsInBatch_thenNeverDeadlock()
+            throws Exception {
+        int amountOfPairs = 20;
+
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(new CustomerDTO("name", "12345678901")));
+        List<GameModel> games = new ArrayList<>();
+        for (int game = 1; game <= 6; game++) {
+            GameModel gameSaved = gameRepository.save(
+                    new GameModel(new GameDTO("name" + game, "image", amountOfPairs, 1500L)));
+            gameRepository.reserveCopies(gameSaved.getId(), amountOfPairs);
+            games.add(gameSaved);
+        }
+
+        List<List<Long>> batches = new ArrayList<>();
+        for (int pair = 0; pair < amountOfPairs; pair++) {
+            List<RentalModel> rentals = new ArrayList<>();
+            for (GameModel game : games) {
+                RentalModel rental = new RentalModel(new RentalDTO(customerSaved.getId(), game.getId(), 3),
+                        customerSaved, game);
+                rental.setOriginalPrice(game.getPricePerDay() * 3);
+                rental.setDelayFee(0L);
+                rental.setRentDate(LocalDate.now());
+                rentals.add(rental);
+            }
+            List<Long> ascending = rentalRepository.saveAll(rentals).stream().map(RentalModel::getId).toList();
+            List<Long> descending = new ArrayList<>(ascending);
+            Collections.reverse(descending);
+            batches.add(ascending);
+            batches.add(descending);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(batches.size());
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+
+        for (List<Long> batch : batches) {
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                return testRestTemplate.exchange(
+                        "/rentals/batch/return",
+                        HttpMethod.PUT,
+                        new HttpEntity<>(batch),
+                        String.class).getStatusCode();
+            }));
+        }
+        startSignal.countDown();
+
+        for (Future<HttpStatusCode> result : results) {
+            HttpStatusCode status = result.get(60, TimeUnit.SECONDS);
+            assertTrue(status == HttpStatus.OK || status == HttpStatus.MULTI_STATUS);
+        }
+        executor.shutdown();
+
+        for (GameModel game : games) {
+            assertEquals(0, findRentedCount(game.getId()));
+            assertEquals(0, rentalRepository.countByGameIdAndReturnDateNull(game.getId()));
+        }
+    }
+
     @Test
     void givenInvalidRentalID_whenReturningRental_thenThrowsError() {
         ResponseEntity<String> response = testRestTemplate.exchange(
@@ -344,4 +892,76 @@ class RentalIntegrationTests {
         assertEquals("This rental was already returned", response.getBody());
         assertEquals(1, rentalRepository.count());
     }
+
+    @Test
+    void givenRentalWithoutRentDate_whenSavingAndExtending_thenKeepDueDateInStep() {
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(new CustomerDTO("name", "12345678901")));
+        GameModel gameSaved = gameRepository.save(new GameModel(new GameDTO("name", "image", 5, 1500L)));
+
+        RentalModel rental = new RentalModel(new RentalDTO(customerSaved.getId(), gameSaved.getId(), 3),
+                customerSaved, gameSaved);
+        rental.setOriginalPrice(4500L);
+        rental.setDelayFee(0L);
+        RentalModel rentalSaved = rentalRepository.save(rental);
+
+        rentalSaved.setDaysRented(5);
+        rentalRepository.save(rentalSaved);
+
+        LocalDate today = LocalDate.now();
+        RentalModel rentalFound = rentalRepository.findById(rentalSaved.getId()).get();
+        assertEquals(today, rentalFound.getRentDate());
+        assertEquals(today.plusDays(5), rentalFound.getDueDate());
+    }
+
+    @Test
+    void givenOverdueRentals_whenGettingOverdueRentals_thenReturnProjectedDelayFees() {
+        CustomerModel customerSaved = customerRepository.save(new CustomerModel(new CustomerDTO("name", "12345678901")));
+        GameModel gameSaved = gameRepository.save(new GameModel(new GameDTO("name", "image", 5, 1500L)));
+
+        LocalDate today = LocalDate.now();
+        RentalModel firstLate = saveRental(customerSaved, gameSaved, today.minusDays(5), null);
+        RentalModel secondLate = saveRental(customerSaved, gameSaved, today.minusDays(4), null);
+        saveRental(customerSaved, gameSaved, today.minusDays(3), null);
+        saveRental(customerSaved, gameSaved, today.minusDays(6), today.minusDays(1));
+        overdueRentalService.rebuild();
+
+        ResponseEntity<List<OverdueRentalDTO>> firstPage = testRestTemplate.exchange(
+                "/rentals/overdue?limit=1",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<OverdueRentalDTO>>() {
+                });
+
+        testRestTemplate.exchange("/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class,
+                secondLate.getId());
+
+        ResponseEntity<List<OverdueRentalDTO>> secondPage = testRestTemplate.exchange(
+                "/rentals/overdue?limit=1&after={after}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<OverdueRentalDTO>>() {
+                },
+                firstPage.getHeaders().getFirst("X-Next-Cursor"));
+
+        assertEquals(HttpStatus.OK, firstPage.getStatusCode());
+        assertEquals(List.of(new OverdueRentalDTO(firstLate.getId(), customerSaved.getId(), gameSaved.getId(),
+                today.minusDays(2), 1500L, 2L, 3000L)), firstPage.getBody());
+        assertEquals(firstLate.getId().toString(), firstPage.getHeaders().getFirst("X-Next-Cursor"));
+        assertEquals(HttpStatus.OK, secondPage.getStatusCode());
+        assertEquals(List.of(), secondPage.getBody());
+        assertNull(secondPage.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
+    private RentalModel saveRental(CustomerModel customer, GameModel game, LocalDate rentDate, LocalDate returnDate) {
+        RentalModel rental = new RentalModel(new RentalDTO(customer.getId(), game.getId(), 3), customer, game);
+        rental.setOriginalPrice(game.getPricePerDay() * 3);
+        rental.setDelayFee(0L);
+        rental.setRentDate(rentDate);
+        rental.setReturnDate(returnDate);
+        return rentalRepository.save(rental);
+    }
+
+    private int findRentedCount(Long gameId) {
+        return jdbcTemplate.queryForObject("SELECT rented_count FROM games WHERE id = ?", Integer.class, gameId);
+    }
 }
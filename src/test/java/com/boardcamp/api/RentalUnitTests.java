@@ -2,24 +2,38 @@ package com.boardcamp.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.boardcamp.api.configs.MetricsConfig;
 import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.CustomerRentalHistoryDTO;
+import com.boardcamp.api.dtos.CustomerRentalSummaryDTO;
 import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalBatchResultDTO;
 import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.RentalEventType;
+import com.boardcamp.api.dtos.RentalFilterDTO;
+import com.boardcamp.api.dtos.RentalPageDTO;
+import com.boardcamp.api.dtos.RentalReturnResultDTO;
 import com.boardcamp.api.exceptions.CustomerNotFoundException;
 import com.boardcamp.api.exceptions.GameNotFoundException;
 import com.boardcamp.api.exceptions.RentalAlreadyReturnedException;
@@ -29,9 +43,15 @@ import com.boardcamp.api.models.CustomerModel;
 import com.boardcamp.api.models.GameModel;
 import com.boardcamp.api.models.RentalModel;
 import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.DailyGameStatsRepository;
 import com.boardcamp.api.repositories.GameRepository;
 import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.services.OutboxService;
 import com.boardcamp.api.services.RentalService;
+import com.boardcamp.api.services.WaitlistService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -48,6 +68,59 @@ class RentalUnitTests {
     @Mock
     private GameRepository gameRepository;
 
+    @Mock
+    private DailyGameStatsRepository dailyGameStatsRepository;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenLimitAboveMaximum_whenFindingRentalPage_thenClampsPageSize() {
+        RentalFilterDTO filter = new RentalFilterDTO(null, null, null, null, null, null, 10_000);
+
+        doReturn(List.of()).when(rentalRepository).findPage(any(), any(), any(), any(), any(), any(), any(), any());
+
+        RentalPageDTO result = rentalService.findPage(filter);
+
+        assertNotNull(result);
+        assertNull(result.getNextCursor());
+        verify(rentalRepository, times(1)).findPage(any(), any(), any(), any(), any(), any(), any(),
+                eq(PageRequest.ofSize(RentalService.MAX_PAGE_SIZE + 1)));
+    }
+
+    @Test
+    void givenExistingCustomer_whenFindingCustomerHistory_thenReturnsPageAndSummary() {
+        CustomerRentalSummaryDTO summary = new CustomerRentalSummaryDTO(3L, 2L, 1L, 24000L);
+
+        doReturn(true).when(customerRepository).existsById(any());
+        doReturn(List.of()).when(rentalRepository).findPage(any(), any(), any(), any(), any(), any(), any(), any());
+        doReturn(summary).when(rentalRepository).summarizeByCustomerId(eq(1L), any());
+
+        CustomerRentalHistoryDTO result = rentalService.findCustomerHistory(1L, null, null);
+
+        assertEquals(summary, result.getSummary());
+        assertEquals(List.of(), result.getRentals());
+        verify(rentalRepository, times(1)).findPage(any(), eq(1L), any(), any(), any(), any(), any(),
+                eq(PageRequest.ofSize(RentalService.DEFAULT_PAGE_SIZE + 1)));
+    }
+
+    @Test
+    void givenNonExistentCustomer_whenFindingCustomerHistory_thenThrowsError() {
+        doReturn(false).when(customerRepository).existsById(any());
+
+        CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
+                () -> rentalService.findCustomerHistory(1L, null, null));
+
+        assertEquals("Customer not found", exception.getMessage());
+        verify(rentalRepository, times(0)).summarizeByCustomerId(any(), any());
+    }
+
     @Test
     void givenValidCustomerAndGame_whenMakingNewRental_thenReturnsNewRental() {
         RentalDTO dto = new RentalDTO(1L, 1L, 3);
@@ -70,7 +143,7 @@ class RentalUnitTests {
 
         doReturn(Optional.of(customer)).when(customerRepository).findById(any());
         doReturn(Optional.of(game)).when(gameRepository).findById(any());
-        doReturn(0L).when(rentalRepository).countByGameIdAndReturnDateNull(any());
+        doReturn(1).when(gameRepository).reserveCopy(any());
         doReturn(rental).when(rentalRepository).save(any());
 
         RentalModel result = rentalService.makeRental(dto);
@@ -80,7 +153,34 @@ class RentalUnitTests {
         assertEquals(game, result.getGame());
         verify(customerRepository, times(1)).findById(any());
         verify(gameRepository, times(1)).findById(any());
-        verify(rentalRepository, times(1)).countByGameIdAndReturnDateNull(any());
+        verify(gameRepository, times(1)).reserveCopy(any());
+        verify(dailyGameStatsRepository, times(1)).recordOpened(1L, LocalDate.now(), 1, 3L, 4500L);
+        verify(rentalRepository, times(1)).save(any());
+        verify(outboxService, times(1)).record(RentalEventType.RENTAL_CREATED, rental);
+    }
+
+    @Test
+    void givenCustomerHoldingCopy_whenMakingNewRental_thenDoNotReserveAnotherCopy() {
+        RentalDTO dto = new RentalDTO(1L, 1L, 3);
+
+        CustomerModel customer = new CustomerModel(new CustomerDTO("customerName", "12345678901"));
+        customer.setId(1L);
+
+        GameModel game = new GameModel(new GameDTO("gameName", "image", 1, 1500L));
+        game.setId(1L);
+
+        RentalModel rental = new RentalModel(dto, customer, game);
+
+        doReturn(Optional.of(customer)).when(customerRepository).findById(any());
+        doReturn(Optional.of(game)).when(gameRepository).findById(any());
+        doReturn(true).when(waitlistService).consumeHold(1L, 1L);
+        doReturn(rental).when(rentalRepository).save(any());
+
+        RentalModel result = rentalService.makeRental(dto);
+
+        assertNotNull(result);
+        verify(waitlistService, times(1)).consumeHold(1L, 1L);
+        verify(gameRepository, times(0)).reserveCopy(any());
         verify(rentalRepository, times(1)).save(any());
     }
 
@@ -96,7 +196,7 @@ class RentalUnitTests {
         assertEquals("Customer not found", exception.getMessage());
         verify(customerRepository, times(1)).findById(any());
         verify(gameRepository, times(0)).findById(any());
-        verify(rentalRepository, times(0)).countByGameIdAndReturnDateNull(any());
+        verify(gameRepository, times(0)).reserveCopy(any());
         verify(rentalRepository, times(0)).save(any());
     }
 
@@ -119,7 +219,7 @@ class RentalUnitTests {
         assertEquals("Game not found", exception.getMessage());
         verify(customerRepository, times(1)).findById(any());
         verify(gameRepository, times(1)).findById(any());
-        verify(rentalRepository, times(0)).countByGameIdAndReturnDateNull(any());
+        verify(gameRepository, times(0)).reserveCopy(any());
         verify(rentalRepository, times(0)).save(any());
     }
 
@@ -143,7 +243,7 @@ class RentalUnitTests {
 
         doReturn(Optional.of(customer)).when(customerRepository).findById(any());
         doReturn(Optional.of(game)).when(gameRepository).findById(any());
-        doReturn(3L).when(rentalRepository).countByGameIdAndReturnDateNull(any());
+        doReturn(0).when(gameRepository).reserveCopy(any());
 
         RentalOutOfStockException exception = assertThrows(RentalOutOfStockException.class,
                 () -> rentalService.makeRental(dto));
@@ -152,10 +252,39 @@ class RentalUnitTests {
         assertEquals("Game is out of stock", exception.getMessage());
         verify(customerRepository, times(1)).findById(any());
         verify(gameRepository, times(1)).findById(any());
-        verify(rentalRepository, times(1)).countByGameIdAndReturnDateNull(any());
+        verify(gameRepository, times(1)).reserveCopy(any());
         verify(rentalRepository, times(0)).save(any());
     }
 
+    @Test
+    void givenBatchOfRentals_whenMakingRentalsInBatch_thenLoadAndReserveOncePerGame() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("customerName", "12345678901"));
+        customer.setId(1L);
+
+        GameModel game = new GameModel(new GameDTO("gameName", "image", 3, 1500L));
+        game.setId(1L);
+
+        List<RentalDTO> dtos = List.of(new RentalDTO(1L, 1L, 3), new RentalDTO(1L, 1L, 2), new RentalDTO(2L, 1L, 1));
+
+        doReturn(List.of(customer)).when(customerRepository).findAllById(any());
+        doReturn(List.of(game)).when(gameRepository).findAllById(any());
+        doReturn(1).when(gameRepository).reserveCopies(any(), anyInt());
+
+        List<RentalBatchResultDTO> results = rentalService.makeRentals(dtos);
+
+        assertEquals(3, results.size());
+        assertEquals(201, results.get(0).getStatus());
+        assertEquals(3000L, results.get(1).getRental().getOriginalPrice());
+        assertEquals(404, results.get(2).getStatus());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.REQUESTS_REJECTED,
+                "exception", "CustomerNotFoundException", "status", "404").count());
+        verify(customerRepository, times(1)).findAllById(any());
+        verify(gameRepository, times(1)).findAllById(any());
+        verify(gameRepository, times(1)).reserveCopies(1L, 2);
+        verify(dailyGameStatsRepository, times(1)).recordOpened(1L, LocalDate.now(), 2, 5L, 7500L);
+        verify(rentalRepository, times(1)).saveAll(any());
+    }
+
     @Test
     void givenValidRentalID_whenFinishingRental_thenReturnsFinishedRental() {
         RentalDTO dto = new RentalDTO(1L, 1L, 3);
@@ -177,7 +306,7 @@ class RentalUnitTests {
         RentalModel rental = new RentalModel(dto, customer, game);
         rental.setRentDate(LocalDate.now());
 
-        doReturn(Optional.of(rental)).when(rentalRepository).findById(any());
+        doReturn(Optional.of(rental)).when(rentalRepository).findForUpdateById(any());
         doReturn(rental).when(rentalRepository).save(any());
 
         RentalModel result = rentalService.finishRental(1L);
@@ -186,8 +315,31 @@ class RentalUnitTests {
         assertEquals(customer, result.getCustomer());
         assertEquals(game, result.getGame());
         assertEquals(0, result.getDelayFee());
-        verify(rentalRepository, times(1)).findById(any());
+        verify(rentalRepository, times(1)).findForUpdateById(any());
         verify(rentalRepository, times(1)).save(any());
+        verify(gameRepository, times(1)).releaseCopy(any());
+        verify(outboxService, times(1)).record(RentalEventType.RENTAL_RETURNED, rental);
+    }
+
+    @Test
+    void givenCustomerWaitingForGame_whenFinishingRental_thenHoldCopyInsteadOfReleasing() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("customerName", "12345678901"));
+        customer.setId(1L);
+
+        GameModel game = new GameModel(new GameDTO("gameName", "image", 1, 1500L));
+        game.setId(1L);
+
+        RentalModel rental = new RentalModel(new RentalDTO(1L, 1L, 3), customer, game);
+        rental.setRentDate(LocalDate.now());
+
+        doReturn(Optional.of(rental)).when(rentalRepository).findForUpdateById(any());
+        doReturn(1).when(waitlistService).holdCopies(1L, 1);
+        doReturn(rental).when(rentalRepository).save(any());
+
+        rentalService.finishRental(1L);
+
+        verify(waitlistService, times(1)).holdCopies(1L, 1);
+        verify(gameRepository, times(0)).releaseCopy(any());
     }
 
     @Test
@@ -211,7 +363,7 @@ class RentalUnitTests {
         RentalModel rental = new RentalModel(dto, customer, game);
         rental.setRentDate(LocalDate.now().minusDays(5));
 
-        doReturn(Optional.of(rental)).when(rentalRepository).findById(any());
+        doReturn(Optional.of(rental)).when(rentalRepository).findForUpdateById(any());
         doReturn(rental).when(rentalRepository).save(any());
 
         RentalModel result = rentalService.finishRental(1L);
@@ -220,21 +372,82 @@ class RentalUnitTests {
         assertEquals(customer, result.getCustomer());
         assertEquals(game, result.getGame());
         assertEquals(((5 - 3) * game.getPricePerDay()), result.getDelayFee());
-        verify(rentalRepository, times(1)).findById(any());
+        verify(rentalRepository, times(1)).findForUpdateById(any());
         verify(rentalRepository, times(1)).save(any());
+        verify(gameRepository, times(1)).releaseCopy(any());
+        verify(dailyGameStatsRepository, times(1)).recordReturned(1L, LocalDate.now(), 1, 3000L);
+    }
+
+    @Test
+    void givenBatchOfRentalIds_whenFinishingRentalsInBatch_thenLoadOnceAndReportPerId() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("customerName", "12345678901"));
+        customer.setId(1L);
+
+        GameModel game = new GameModel(new GameDTO("gameName", "image", 3, 1500L));
+        game.setId(1L);
+
+        RentalModel openRental = new RentalModel(new RentalDTO(1L, 1L, 3), customer, game);
+        openRental.setId(1L);
+        openRental.setRentDate(LocalDate.now().minusDays(5));
+
+        RentalModel returnedRental = new RentalModel(new RentalDTO(1L, 1L, 3), customer, game);
+        returnedRental.setId(2L);
+        returnedRental.setRentDate(LocalDate.now());
+        returnedRental.setReturnDate(LocalDate.now());
+
+        doReturn(List.of(openRental, returnedRental)).when(rentalRepository).findAllForUpdateByIdIn(any());
+
+        List<RentalReturnResultDTO> results = rentalService.finishRentals(List.of(1L, 2L, 3L));
+
+        assertEquals(3, results.size());
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals((5 - 3) * game.getPricePerDay(), results.get(0).getRental().getDelayFee());
+        assertEquals(422, results.get(1).getStatus());
+        assertEquals(404, results.get(2).getStatus());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.REQUESTS_REJECTED,
+                "exception", "RentalAlreadyReturnedException", "status", "422").count());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.REQUESTS_REJECTED,
+                "exception", "RentalNotFoundException", "status", "404").count());
+        verify(rentalRepository, times(1)).findAllForUpdateByIdIn(any());
+        verify(gameRepository, times(1)).releaseCopies(1L, 1);
+        verify(dailyGameStatsRepository, times(1)).recordReturned(1L, LocalDate.now(), 1, 3000L);
+        verify(rentalRepository, times(1)).saveAll(List.of(openRental));
+    }
+
+    @Test
+    void givenDriftedRentedCount_whenFinishingRentalsInBatch_thenReturnAndCountDrift() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("customerName", "12345678901"));
+        customer.setId(1L);
+
+        GameModel game = new GameModel(new GameDTO("gameName", "image", 3, 1500L));
+        game.setId(1L);
+
+        RentalModel rental = new RentalModel(new RentalDTO(1L, 1L, 3), customer, game);
+        rental.setId(1L);
+        rental.setRentDate(LocalDate.now());
+
+        doReturn(List.of(rental)).when(rentalRepository).findAllForUpdateByIdIn(any());
+        doReturn(0).when(gameRepository).releaseCopies(1L, 1);
+
+        List<RentalReturnResultDTO> results = rentalService.finishRentals(List.of(1L));
+
+        assertEquals(200, results.get(0).getStatus());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.GAMES_COUNTER_DRIFT).count());
+        verify(rentalRepository, times(1)).saveAll(List.of(rental));
     }
 
     @Test
     void givenInvalidRentalID_whenFinishingRental_thenThrowsError() {
-        doReturn(Optional.empty()).when(rentalRepository).findById(any());
+        doReturn(Optional.empty()).when(rentalRepository).findForUpdateById(any());
 
         RentalNotFoundException exception = assertThrows(RentalNotFoundException.class,
                 () -> rentalService.finishRental(1L));
 
         assertNotNull(exception);
         assertEquals("Rental was not found", exception.getMessage());
-        verify(rentalRepository, times(1)).findById(any());
+        verify(rentalRepository, times(1)).findForUpdateById(any());
         verify(rentalRepository, times(0)).save(any());
+        verify(gameRepository, times(0)).releaseCopy(any());
     }
 
     @Test
@@ -259,15 +472,16 @@ class RentalUnitTests {
         rental.setRentDate(LocalDate.now());
         rental.setReturnDate(LocalDate.now());
 
-        doReturn(Optional.of(rental)).when(rentalRepository).findById(any());
+        doReturn(Optional.of(rental)).when(rentalRepository).findForUpdateById(any());
 
         RentalAlreadyReturnedException exception = assertThrows(RentalAlreadyReturnedException.class,
                 () -> rentalService.finishRental(1L));
 
         assertNotNull(exception);
         assertEquals("This rental was already returned", exception.getMessage());
-        verify(rentalRepository, times(1)).findById(any());
+        verify(rentalRepository, times(1)).findForUpdateById(any());
         verify(rentalRepository, times(0)).save(any());
+        verify(gameRepository, times(0)).releaseCopy(any());
     }
 
 }
@@ -0,0 +1,162 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.boardcamp.api.configs.CacheConfig;
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReplicaIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.GAMES).clear();
+        cacheManager.getCache(CacheConfig.CUSTOMERS_BY_CPF).clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void givenEmptyCatalogCache_whenListingGames_thenFillItFromPrimary() {
+        gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        int replicaConnections = replicaConnections();
+
+        ResponseEntity<String> response = testRestTemplate.getForEntity("/games", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"name\":\"name\""));
+        assertEquals(replicaConnections, replicaConnections());
+    }
+
+    @Test
+    void givenEmptyCpfCache_whenFindingCustomerByCpf_thenFillItFromPrimary() {
+        customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        int replicaConnections = replicaConnections();
+
+        ResponseEntity<CustomerModel> response = testRestTemplate.getForEntity(
+                "/customers?cpf={cpf}", CustomerModel.class, "01234567890");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(replicaConnections, replicaConnections());
+    }
+
+    @Test
+    void givenCustomerReadFromReplica_whenFindingCustomer_thenDoNotPutItInSecondLevelCache() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        entityManagerFactory.getCache().evictAll();
+        int replicaConnections = replicaConnections();
+
+        ResponseEntity<CustomerModel> response = testRestTemplate.getForEntity(
+                "/customers/{id}", CustomerModel.class, customer.getId());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(replicaConnections() > replicaConnections);
+        assertFalse(entityManagerFactory.getCache().contains(CustomerModel.class, customer.getId()));
+    }
+
+    @Test
+    void givenQueryReadFromReplica_whenCheckingGameName_thenDoNotPutItInQueryCache() {
+        gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long puts = statistics.getQueryCachePutCount();
+        int replicaConnections = replicaConnections();
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        Boolean exists = transactionTemplate.execute(status -> gameRepository.existsByName("name"));
+
+        assertTrue(exists);
+        assertTrue(replicaConnections() > replicaConnections);
+        assertEquals(puts, statistics.getQueryCachePutCount());
+    }
+
+    private int replicaConnections() {
+        return ((StubReplica) replicaDataSource).connections.get();
+    }
+
+    @TestConfiguration
+    static class StubReplicaConfig {
+        @Bean
+        static BeanPostProcessor stubReplica() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return "replicaDataSource".equals(beanName) ? new StubReplica((DataSource) bean) : bean;
+                }
+            };
+        }
+    }
+
+    static class StubReplica extends DelegatingDataSource {
+        private final AtomicInteger connections = new AtomicInteger();
+
+        StubReplica(DataSource replica) {
+            super(replica);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connections.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+}
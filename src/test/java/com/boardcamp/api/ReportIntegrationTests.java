@@ -0,0 +1,141 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.DailyRevenueDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.GameUtilizationDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ReportIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void givenRentalsMadeAndReturned_whenGettingReports_thenReturnDailyAggregates() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel firstGame = gameRepository.save(new GameModel(new GameDTO("name1", "image", 2, 1500L)));
+        GameModel secondGame = gameRepository.save(new GameModel(new GameDTO("name2", "image", 1, 2000L)));
+
+        ResponseEntity<RentalModel> rental = testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), firstGame.getId(), 3)),
+                RentalModel.class);
+        testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), firstGame.getId(), 1)),
+                RentalModel.class);
+        testRestTemplate.exchange(
+                "/rentals/{id}/return",
+                HttpMethod.PUT,
+                null,
+                RentalModel.class,
+                rental.getBody().getId());
+
+        ResponseEntity<List<DailyRevenueDTO>> revenue = testRestTemplate.exchange(
+                "/reports/revenue",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<DailyRevenueDTO>>() {
+                });
+
+        ResponseEntity<List<GameUtilizationDTO>> games = testRestTemplate.exchange(
+                "/reports/games?startDate={startDate}&endDate={endDate}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<GameUtilizationDTO>>() {
+                },
+                LocalDate.now().minusDays(1),
+                LocalDate.now());
+
+        assertEquals(HttpStatus.OK, revenue.getStatusCode());
+        assertEquals(List.of(new DailyRevenueDTO(LocalDate.now(), 2L, 1L, 6000L, 0L, 6000L)), revenue.getBody());
+        assertEquals(HttpStatus.OK, games.getStatusCode());
+        assertEquals(List.of(
+                new GameUtilizationDTO(firstGame.getId(), "name1", 2L, 1L, 6000L, 0L, 1.0 / (2 * 2)),
+                new GameUtilizationDTO(secondGame.getId(), "name2", 0L, 0L, 0L, 0L, 0.0)), games.getBody());
+    }
+
+    @Test
+    void givenRentalRunningPastPeriod_whenGettingGameReport_thenCountOnlyDaysInPeriod() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        testRestTemplate.exchange(
+                "/rentals",
+                HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 30)),
+                RentalModel.class);
+
+        ResponseEntity<List<GameUtilizationDTO>> games = testRestTemplate.exchange(
+                "/reports/games?startDate={startDate}&endDate={endDate}",
+                HttpMethod.GET,
+                null,
+                new ParameterizedTypeReference<List<GameUtilizationDTO>>() {
+                },
+                LocalDate.now().minusDays(6),
+                LocalDate.now());
+
+        assertEquals(HttpStatus.OK, games.getStatusCode());
+        assertEquals(List.of(new GameUtilizationDTO(game.getId(), "name", 1L, 0L, 45000L, 0L, 1.0 / 7)),
+                games.getBody());
+    }
+
+    @Test
+    void givenStartAfterEnd_whenGettingRevenueReport_thenThrowsError() {
+        ResponseEntity<String> response = testRestTemplate.exchange(
+                "/reports/revenue?startDate={startDate}&endDate={endDate}",
+                HttpMethod.GET,
+                null,
+                String.class,
+                "2024-01-02",
+                "2024-01-01");
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Start date must not be after end date", response.getBody());
+    }
+}
@@ -0,0 +1,80 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.DailyRevenueDTO;
+import com.boardcamp.api.dtos.ReportFilterDTO;
+import com.boardcamp.api.exceptions.InvalidReportPeriodException;
+import com.boardcamp.api.repositories.DailyGameStatsRepository;
+import com.boardcamp.api.services.ReportService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReportUnitTests {
+    @InjectMocks
+    private ReportService reportService;
+
+    @Mock
+    private DailyGameStatsRepository dailyGameStatsRepository;
+
+    @Test
+    void givenNoPeriod_whenFindingDailyRevenue_thenUseDefaultPeriodEndingToday() {
+        LocalDate today = LocalDate.now();
+        List<DailyRevenueDTO> revenue = List.of(new DailyRevenueDTO(today, 1L, 0L, 4500L, 0L, 4500L));
+
+        doReturn(revenue).when(dailyGameStatsRepository).findDailyRevenue(any(), any());
+
+        List<DailyRevenueDTO> result = reportService.findDailyRevenue(new ReportFilterDTO(null, null));
+
+        assertEquals(revenue, result);
+        verify(dailyGameStatsRepository, times(1))
+                .findDailyRevenue(today.minusDays(ReportService.DEFAULT_PERIOD_DAYS - 1), today);
+    }
+
+    @Test
+    void givenPeriod_whenFindingGameUtilization_thenPassNumberOfDays() {
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 10);
+
+        doReturn(List.of()).when(dailyGameStatsRepository).findGameUtilization(any(), any(), any(Long.class));
+
+        reportService.findGameUtilization(new ReportFilterDTO(startDate, endDate));
+
+        verify(dailyGameStatsRepository, times(1)).findGameUtilization(startDate, endDate, 10L);
+    }
+
+    @Test
+    void givenStartAfterEnd_whenFindingDailyRevenue_thenThrowsError() {
+        ReportFilterDTO filter = new ReportFilterDTO(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 1));
+
+        InvalidReportPeriodException exception = assertThrows(InvalidReportPeriodException.class,
+                () -> reportService.findDailyRevenue(filter));
+
+        assertEquals("Start date must not be after end date", exception.getMessage());
+        verify(dailyGameStatsRepository, times(0)).findDailyRevenue(any(), any());
+    }
+
+    @Test
+    void givenPeriodAboveMaximum_whenFindingGameUtilization_thenThrowsError() {
+        ReportFilterDTO filter = new ReportFilterDTO(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 12, 31));
+
+        InvalidReportPeriodException exception = assertThrows(InvalidReportPeriodException.class,
+                () -> reportService.findGameUtilization(filter));
+
+        assertEquals("Report period must be at most 366 days", exception.getMessage());
+    }
+}
@@ -0,0 +1,185 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.RentalBatchResultDTO;
+import com.boardcamp.api.dtos.RentalDTO;
+import com.boardcamp.api.dtos.WaitlistDTO;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.RentalModel;
+import com.boardcamp.api.models.WaitlistEntryModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.RentalRepository;
+import com.boardcamp.api.repositories.WaitlistRepository;
+import com.boardcamp.api.services.WaitlistService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class WaitlistIntegrationTests {
+    @Autowired
+    private TestRestTemplate testRestTemplate;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private RentalRepository rentalRepository;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        waitlistRepository.deleteAll();
+        rentalRepository.deleteAll();
+        gameRepository.deleteAll();
+        customerRepository.deleteAll();
+    }
+
+    @Test
+    void givenWaitingCustomer_whenCopyIsReturned_thenHoldItForTheWaiter() {
+        CustomerModel renter = customerRepository.save(new CustomerModel(new CustomerDTO("renter", "01234567890")));
+        CustomerModel waiter = customerRepository.save(new CustomerModel(new CustomerDTO("waiter", "01234567891")));
+        CustomerModel other = customerRepository.save(new CustomerModel(new CustomerDTO("other", "01234567892")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        ResponseEntity<RentalModel> rental = postRental(renter, game, RentalModel.class);
+        ResponseEntity<WaitlistEntryModel> entry = testRestTemplate.exchange("/waitlist", HttpMethod.POST,
+                new HttpEntity<>(new WaitlistDTO(waiter.getId(), game.getId())), WaitlistEntryModel.class);
+        testRestTemplate.exchange("/rentals/{id}/return", HttpMethod.PUT, null, RentalModel.class,
+                rental.getBody().getId());
+
+        ResponseEntity<List<WaitlistEntryModel>> waitlist = testRestTemplate.exchange("/waitlist?gameId={gameId}",
+                HttpMethod.GET, null, new ParameterizedTypeReference<List<WaitlistEntryModel>>() {
+                }, game.getId());
+        ResponseEntity<String> otherRental = postRental(other, game, String.class);
+        ResponseEntity<RentalModel> waiterRental = postRental(waiter, game, RentalModel.class);
+
+        assertEquals(HttpStatus.CREATED, entry.getStatusCode());
+        assertNull(entry.getBody().getHoldExpiresAt());
+        assertEquals(1, waitlist.getBody().size());
+        assertNotNull(waitlist.getBody().get(0).getHoldExpiresAt());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, otherRental.getStatusCode());
+        assertEquals(HttpStatus.CREATED, waiterRental.getStatusCode());
+        assertEquals(0, waitlistRepository.count());
+        assertEquals(1, findRentedCount(game.getId()));
+    }
+
+    @Test
+    void givenExpiredHold_whenExpiringHolds_thenPassCopyToNextWaiter() {
+        CustomerModel first = customerRepository.save(new CustomerModel(new CustomerDTO("first", "01234567890")));
+        CustomerModel second = customerRepository.save(new CustomerModel(new CustomerDTO("second", "01234567891")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        WaitlistEntryModel held = waitlistService.enqueue(new WaitlistDTO(first.getId(), game.getId()));
+        WaitlistEntryModel waiting = waitlistService.enqueue(new WaitlistDTO(second.getId(), game.getId()));
+        held.setHoldExpiresAt(LocalDateTime.now().minusMinutes(1));
+        waitlistRepository.save(held);
+
+        waitlistService.expireHolds();
+
+        List<WaitlistEntryModel> waitlist = waitlistRepository.findByGameIdOrderById(game.getId());
+        assertEquals(1, waitlist.size());
+        assertEquals(waiting.getId(), waitlist.get(0).getId());
+        assertNotNull(waitlist.get(0).getHoldExpiresAt());
+        assertEquals(1, findRentedCount(game.getId()));
+    }
+
+    @Test
+    void givenHoldingCustomer_whenLeavingWaitlist_thenReleaseCopy() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+
+        WaitlistEntryModel entry = waitlistService.enqueue(new WaitlistDTO(customer.getId(), game.getId()));
+        int rentedWhileHeld = findRentedCount(game.getId());
+
+        ResponseEntity<Void> response = testRestTemplate.exchange("/waitlist/{id}", HttpMethod.DELETE, null,
+                Void.class, entry.getId());
+
+        assertNotNull(entry.getHoldExpiresAt());
+        assertEquals(1, rentedWhileHeld);
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        assertEquals(0, waitlistRepository.count());
+        assertEquals(0, findRentedCount(game.getId()));
+    }
+
+    @Test
+    void givenHoldingCustomerAndOutOfStockGame_whenRentingInBatch_thenRentOnlyToTheHolder() {
+        CustomerModel holder = customerRepository.save(new CustomerModel(new CustomerDTO("holder", "01234567890")));
+        CustomerModel other = customerRepository.save(new CustomerModel(new CustomerDTO("other", "01234567891")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        waitlistService.enqueue(new WaitlistDTO(holder.getId(), game.getId()));
+
+        ResponseEntity<List<RentalBatchResultDTO>> response = testRestTemplate.exchange("/rentals/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(new RentalDTO(other.getId(), game.getId(), 3),
+                        new RentalDTO(holder.getId(), game.getId(), 3))),
+                new ParameterizedTypeReference<List<RentalBatchResultDTO>>() {
+                });
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY.value(), response.getBody().get(0).getStatus());
+        assertEquals(HttpStatus.CREATED.value(), response.getBody().get(1).getStatus());
+        assertEquals(holder.getId(), response.getBody().get(1).getRental().getCustomer().getId());
+        assertEquals(0, waitlistRepository.count());
+        assertEquals(1, rentalRepository.count());
+        assertEquals(1, findRentedCount(game.getId()));
+    }
+
+    @Test
+    void givenCustomerAlreadyWaiting_whenEnqueuing_thenThrowsError() {
+        CustomerModel customer = customerRepository.save(new CustomerModel(new CustomerDTO("name", "01234567890")));
+        GameModel game = gameRepository.save(new GameModel(new GameDTO("name", "image", 1, 1500L)));
+        HttpEntity<WaitlistDTO> request = new HttpEntity<>(new WaitlistDTO(customer.getId(), game.getId()));
+
+        testRestTemplate.exchange("/waitlist", HttpMethod.POST, request, WaitlistEntryModel.class);
+        ResponseEntity<String> response = testRestTemplate.exchange("/waitlist", HttpMethod.POST, request,
+                String.class);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Customer is already in the waitlist for this game", response.getBody());
+        assertEquals(1, waitlistRepository.count());
+        assertEquals(1, findRentedCount(game.getId()));
+    }
+
+    private <T> ResponseEntity<T> postRental(CustomerModel customer, GameModel game, Class<T> type) {
+        return testRestTemplate.exchange("/rentals", HttpMethod.POST,
+                new HttpEntity<>(new RentalDTO(customer.getId(), game.getId(), 3)), type);
+    }
+
+    private int findRentedCount(Long gameId) {
+        return jdbcTemplate.queryForObject("SELECT rented_count FROM games WHERE id = ?", Integer.class, gameId);
+    }
+}
@@ -0,0 +1,119 @@
+package com.boardcamp.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.boardcamp.api.dtos.CustomerDTO;
+import com.boardcamp.api.dtos.GameDTO;
+import com.boardcamp.api.dtos.WaitlistDTO;
+import com.boardcamp.api.exceptions.CustomerNotFoundException;
+import com.boardcamp.api.exceptions.GameNotFoundException;
+import com.boardcamp.api.exceptions.WaitlistConflictException;
+import com.boardcamp.api.exceptions.WaitlistEntryNotFoundException;
+import com.boardcamp.api.models.CustomerModel;
+import com.boardcamp.api.models.GameModel;
+import com.boardcamp.api.models.WaitlistEntryModel;
+import com.boardcamp.api.repositories.CustomerRepository;
+import com.boardcamp.api.repositories.GameRepository;
+import com.boardcamp.api.repositories.WaitlistRepository;
+import com.boardcamp.api.services.WaitlistService;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class WaitlistUnitTests {
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    @Test
+    void givenOutOfStockGame_whenEnqueuing_thenWaitWithoutHold() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("name", "12345678901"));
+        customer.setId(1L);
+        GameModel game = new GameModel(new GameDTO("name", "image", 1, 1500L));
+        game.setId(1L);
+
+        doReturn(Optional.of(customer)).when(customerRepository).findById(any());
+        doReturn(Optional.of(game)).when(gameRepository).findById(any());
+        doReturn(0).when(gameRepository).reserveCopy(any());
+        doReturn(new WaitlistEntryModel(customer, game)).when(waitlistRepository).saveAndFlush(any());
+
+        WaitlistEntryModel result = waitlistService.enqueue(new WaitlistDTO(1L, 1L));
+
+        assertNull(result.getHoldExpiresAt());
+        verify(gameRepository, times(1)).reserveCopy(1L);
+        verify(waitlistRepository, times(1)).saveAndFlush(any());
+    }
+
+    @Test
+    void givenCustomerAlreadyWaiting_whenEnqueuing_thenThrowsError() {
+        CustomerModel customer = new CustomerModel(new CustomerDTO("name", "12345678901"));
+        customer.setId(1L);
+        GameModel game = new GameModel(new GameDTO("name", "image", 1, 1500L));
+        game.setId(1L);
+
+        doReturn(Optional.of(customer)).when(customerRepository).findById(any());
+        doReturn(Optional.of(game)).when(gameRepository).findById(any());
+        doThrow(new DataIntegrityViolationException("duplicate")).when(waitlistRepository).saveAndFlush(any());
+
+        WaitlistConflictException exception = assertThrows(WaitlistConflictException.class,
+                () -> waitlistService.enqueue(new WaitlistDTO(1L, 1L)));
+
+        assertEquals("Customer is already in the waitlist for this game", exception.getMessage());
+    }
+
+    @Test
+    void givenInvalidCustomer_whenEnqueuing_thenThrowsError() {
+        doReturn(Optional.empty()).when(customerRepository).findById(any());
+
+        CustomerNotFoundException exception = assertThrows(CustomerNotFoundException.class,
+                () -> waitlistService.enqueue(new WaitlistDTO(1L, 1L)));
+
+        assertEquals("Customer not found", exception.getMessage());
+        verify(gameRepository, times(0)).reserveCopy(any());
+        verify(waitlistRepository, times(0)).saveAndFlush(any());
+    }
+
+    @Test
+    void givenInvalidGame_whenFindingWaitlist_thenThrowsError() {
+        doReturn(false).when(gameRepository).existsById(any());
+
+        GameNotFoundException exception = assertThrows(GameNotFoundException.class,
+                () -> waitlistService.findByGame(1L));
+
+        assertEquals("Game not found", exception.getMessage());
+    }
+
+    @Test
+    void givenInvalidEntry_whenLeaving_thenThrowsError() {
+        doReturn(Optional.empty()).when(waitlistRepository).findById(any());
+
+        WaitlistEntryNotFoundException exception = assertThrows(WaitlistEntryNotFoundException.class,
+                () -> waitlistService.leave(1L));
+
+        assertEquals("Waitlist entry not found", exception.getMessage());
+        verify(waitlistRepository, times(0)).delete(any());
+    }
+}